@@ -0,0 +1,108 @@
+package com.evv;
+
+import org.jetbrains.kotlinx.lincheck.annotations.Operation;
+import org.jetbrains.kotlinx.lincheck.annotations.Param;
+import org.jetbrains.kotlinx.lincheck.paramgen.IntGen;
+import org.jetbrains.kotlinx.lincheck.strategy.managed.modelchecking.ModelCheckingOptions;
+import org.jetbrains.kotlinx.lincheck.strategy.stress.StressOptions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Проверка линеаризуемости {@link EvvConcurrentArrayList}: Lincheck перебирает чередования операций
+ * add, remove, get, set и size нескольких потоков и сверяет результаты с последовательной спецификацией
+ * на основе {@link EvvArrayList}. <br>
+ * Выход индекса за границы списка - допустимый результат операции, он возвращается как -1.
+ */
+@Param(name = "elem", gen = IntGen.class, conf = "1:3")
+public class EvvConcurrentArrayListLincheckTest {
+
+    private final EvvConcurrentArrayList<Integer> list = new EvvConcurrentArrayList<>(0);
+
+    @Operation
+    public boolean add(@Param(name = "elem") int elem) {
+        return list.add(elem);
+    }
+
+    @Operation
+    public boolean remove(@Param(name = "elem") int elem) {
+        return list.remove(Integer.valueOf(elem));
+    }
+
+    @Operation
+    public Integer removeAt(@Param(gen = IntGen.class, conf = "0:3") int index) {
+        try {
+            return list.remove(index);
+        } catch (IndexOutOfBoundsException e) {
+            return -1;
+        }
+    }
+
+    @Operation
+    public Integer get(@Param(gen = IntGen.class, conf = "0:3") int index) {
+        try {
+            return list.get(index);
+        } catch (IndexOutOfBoundsException e) {
+            return -1;
+        }
+    }
+
+    @Operation
+    public Integer set(@Param(gen = IntGen.class, conf = "0:3") int index, @Param(name = "elem") int elem) {
+        try {
+            return list.set(index, elem);
+        } catch (IndexOutOfBoundsException e) {
+            return -1;
+        }
+    }
+
+    @Operation
+    public int size() {
+        return list.size();
+    }
+
+    @Test
+    void stressTest() {
+        new StressOptions()
+                .sequentialSpecification(SequentialSpec.class)
+                .check(this.getClass());
+    }
+
+    @Test
+    void modelCheckingTest() {
+        new ModelCheckingOptions()
+                .sequentialSpecification(SequentialSpec.class)
+                .check(this.getClass());
+    }
+
+    /**
+     * Последовательная спецификация: те же операции над обычным {@link EvvArrayList}
+     */
+    public static class SequentialSpec {
+
+        private final EvvArrayList<Integer> list = new EvvArrayList<>(0);
+
+        public boolean add(int elem) {
+            return list.add(elem);
+        }
+
+        public boolean remove(int elem) {
+            return list.remove(Integer.valueOf(elem));
+        }
+
+        public Integer removeAt(int index) {
+            return index < list.size() ? list.remove(index) : Integer.valueOf(-1);
+        }
+
+        public Integer get(int index) {
+            return index < list.size() ? list.get(index) : Integer.valueOf(-1);
+        }
+
+        public Integer set(int index, int elem) {
+            return index < list.size() ? list.set(index, elem) : Integer.valueOf(-1);
+        }
+
+        public int size() {
+            return list.size();
+        }
+    }
+}
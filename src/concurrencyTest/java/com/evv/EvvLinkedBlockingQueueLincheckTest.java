@@ -0,0 +1,50 @@
+package com.evv;
+
+import org.jetbrains.kotlinx.lincheck.annotations.Operation;
+import org.jetbrains.kotlinx.lincheck.annotations.Param;
+import org.jetbrains.kotlinx.lincheck.paramgen.IntGen;
+import org.jetbrains.kotlinx.lincheck.strategy.managed.modelchecking.ModelCheckingOptions;
+import org.jetbrains.kotlinx.lincheck.strategy.stress.StressOptions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Проверка линеаризуемости неблокирующих операций {@link EvvLinkedBlockingQueue} (offer, poll, drainTo, size)
+ * относительно последовательного исполнения тех же операций.
+ */
+@Param(name = "elem", gen = IntGen.class, conf = "1:5")
+public class EvvLinkedBlockingQueueLincheckTest {
+
+    private static final int CAPACITY = 2;
+
+    private final EvvLinkedBlockingQueue<Integer> queue = new EvvLinkedBlockingQueue<>(CAPACITY);
+
+    @Operation
+    public boolean offer(@Param(name = "elem") int elem) {
+        return queue.offer(elem);
+    }
+
+    @Operation
+    public Integer poll() {
+        return queue.poll();
+    }
+
+    @Operation
+    public int drainTo() {
+        return queue.drainTo(new EvvLinkedList<>(), CAPACITY);
+    }
+
+    @Operation
+    public int size() {
+        return queue.size();
+    }
+
+    @Test
+    void stressTest() {
+        new StressOptions().check(this.getClass());
+    }
+
+    @Test
+    void modelCheckingTest() {
+        new ModelCheckingOptions().check(this.getClass());
+    }
+}
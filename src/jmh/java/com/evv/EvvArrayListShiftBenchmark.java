@@ -0,0 +1,67 @@
+package com.evv;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение сдвига хвоста массива через System.arraycopy (remove(int)/add(int, T)) с поэлементным циклом,
+ * которым ранее был реализован сдвиг в {@link EvvArrayList}. <br>
+ * Каждая операция удаляет первый элемент и вставляет его обратно, то есть сдвигает весь массив дважды.
+ * Запуск: gradle jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EvvArrayListShiftBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    int size;
+
+    EvvArrayList<Integer> list;
+
+    Integer[] loopData;
+
+    @Setup
+    public void prepareData() {
+        list = new EvvArrayList<>(size + 1);
+        loopData = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+            loopData[i] = i;
+        }
+    }
+
+    @Benchmark
+    public Integer arraycopyShift() {
+        Integer elem = list.remove(0);
+        list.add(0, elem);
+        return elem;
+    }
+
+    @Benchmark
+    public Integer loopShift() {
+        Integer elem = loopData[0];
+        for (int i = 1; i < size; i++) {
+            loopData[i - 1] = loopData[i];
+        }
+        for (int i = size - 1; i > 0; i--) {
+            loopData[i] = loopData[i - 1];
+        }
+        loopData[0] = elem;
+        return elem;
+    }
+}
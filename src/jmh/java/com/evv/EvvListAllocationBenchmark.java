@@ -0,0 +1,83 @@
+package com.evv;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Измерение выделения памяти при заполнении {@link EvvArrayList} и {@link EvvLinkedList}. <br>
+ * Элементы создаются заранее, поэтому профилировщик gc (gc.alloc.rate.norm, gc.count) показывает
+ * выделение памяти только самой структурой: перестроения массива или объекты Node. <br>
+ * Запуск: gradle jmh (профилировщик gc включен в build.gradle)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EvvListAllocationBenchmark {
+
+    @Param({"1000", "100000"})
+    int size;
+
+    Integer[] elements;
+
+    @Setup
+    public void prepareData() {
+        elements = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = 1_000_000 + i;
+        }
+    }
+
+    @Benchmark
+    public EvvArrayList<Integer> arrayListFill() {
+        EvvArrayList<Integer> list = new EvvArrayList<>();
+        for (Integer elem : elements) {
+            list.add(elem);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public EvvArrayList<Integer> arrayListFillPresized() {
+        EvvArrayList<Integer> list = new EvvArrayList<>(size);
+        for (Integer elem : elements) {
+            list.add(elem);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public EvvLinkedList<Integer> linkedListFill() {
+        EvvLinkedList<Integer> list = new EvvLinkedList<>();
+        for (Integer elem : elements) {
+            list.add(elem);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public Integer linkedListAddRemoveFirst() {
+        EvvLinkedList<Integer> list = new EvvLinkedList<>();
+        for (Integer elem : elements) {
+            list.add(elem);
+        }
+        Integer last = null;
+        while (list.size() > 0) {
+            last = list.removeFirst();
+        }
+        return last;
+    }
+}
@@ -0,0 +1,77 @@
+package com.evv;
+
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
+
+/**
+ * Отчет о занимаемой памяти для {@link EvvArrayList} и {@link EvvLinkedList} на разных размерах списка. <br>
+ * Для каждого списка выводятся полный удерживаемый объем (список вместе с элементами), накладные расходы
+ * самой структуры (без элементов) и соответствующие значения в байтах на элемент. <br>
+ * Если накладные расходы структуры на элемент превышают бюджет, отчет завершается исключением,
+ * и задача gradle footprint (а вместе с ней gradle check) падает.
+ * Запуск: gradle footprint
+ */
+public class EvvListFootprintReport {
+
+    /**
+     * Размеры списков
+     */
+    private static final int[] SIZES = {1_000, 100_000, 1_000_000};
+
+    /**
+     * Бюджет накладных расходов EvvArrayList на элемент в размерах ссылки: ссылка в массиве с учетом запаса
+     * роста в 1.5 раза
+     */
+    private static final double ARRAY_LIST_OVERHEAD_BUDGET = 2.0;
+
+    /**
+     * Бюджет накладных расходов EvvLinkedList на элемент в размерах ссылки: объект Node с заголовком и тремя ссылками
+     */
+    private static final double LINKED_LIST_OVERHEAD_BUDGET = 8.0;
+
+    public static void main(String[] args) {
+        System.out.println(VM.current().details());
+        System.out.printf("%-14s %10s %14s %14s %12s %12s%n",
+                "list", "size", "retained, B", "overhead, B", "B/elem", "overhead/elem");
+
+        // размер ссылки зависит от режима сжатия указателей, бюджеты задаются в размерах ссылки
+        long referenceSize = (GraphLayout.parseInstance((Object) new Object[1024]).totalSize()
+                - GraphLayout.parseInstance((Object) new Object[0]).totalSize()) / 1024;
+        System.out.println("Размер ссылки: " + referenceSize + " B");
+
+        boolean overBudget = false;
+        for (int size : SIZES) {
+            Integer[] elements = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                elements[i] = 1_000_000 + i; // значения вне кэша Integer, каждый элемент - отдельный объект
+            }
+            GraphLayout elementsLayout = GraphLayout.parseInstance((Object[]) elements);
+
+            EvvArrayList<Integer> arrayList = new EvvArrayList<>();
+            EvvLinkedList<Integer> linkedList = new EvvLinkedList<>();
+            for (Integer elem : elements) {
+                arrayList.add(elem);
+                linkedList.add(elem);
+            }
+
+            overBudget |= report("EvvArrayList", size, GraphLayout.parseInstance(arrayList), elementsLayout,
+                    ARRAY_LIST_OVERHEAD_BUDGET * referenceSize);
+            overBudget |= report("EvvLinkedList", size, GraphLayout.parseInstance(linkedList), elementsLayout,
+                    LINKED_LIST_OVERHEAD_BUDGET * referenceSize);
+        }
+        if (overBudget) {
+            throw new IllegalStateException("Накладные расходы памяти на элемент превышают бюджет");
+        }
+    }
+
+    private static boolean report(String name, int size, GraphLayout listLayout, GraphLayout elementsLayout,
+                                  double overheadBudget) {
+        long retained = listLayout.totalSize();
+        long overhead = listLayout.subtract(elementsLayout).totalSize();
+        double overheadPerElem = (double) overhead / size;
+        System.out.printf("%-14s %10d %14d %14d %12.2f %12.2f%s%n",
+                name, size, retained, overhead, (double) retained / size, overheadPerElem,
+                overheadPerElem > overheadBudget ? "  > бюджет " + overheadBudget : "");
+        return overheadPerElem > overheadBudget;
+    }
+}
@@ -0,0 +1,140 @@
+package com.evv;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение {@link EvvIntObjectMap} и {@link EvvLongLongMap} с {@link HashMap} на заполнении и поиске. <br>
+ * Заполнение показывает и скорость, и объем памяти: профилировщик gc (gc.alloc.rate.norm) учитывает
+ * упакованные ключи и объекты узлов HashMap, которых нет у примитивных таблиц. <br>
+ * Запуск: gradle jmh (профилировщик gc включен в build.gradle)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EvvPrimitiveMapBenchmark {
+
+    @Param({"1000", "100000"})
+    int size;
+
+    int[] keys;
+
+    Object value = new Object();
+
+    EvvIntObjectMap<Object> intObjectMap;
+
+    HashMap<Integer, Object> intHashMap;
+
+    EvvLongLongMap longLongMap;
+
+    HashMap<Long, Long> longHashMap;
+
+    @Setup
+    public void prepareData() {
+        Random random = new Random(42);
+        keys = new int[size];
+        intObjectMap = new EvvIntObjectMap<>();
+        intHashMap = new HashMap<>();
+        longLongMap = new EvvLongLongMap();
+        longHashMap = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            keys[i] = random.nextInt();
+            intObjectMap.put(keys[i], value);
+            intHashMap.put(keys[i], value);
+            longLongMap.put(keys[i], i);
+            longHashMap.put((long) keys[i], (long) i);
+        }
+    }
+
+    @Benchmark
+    public EvvIntObjectMap<Object> intObjectMapFill() {
+        EvvIntObjectMap<Object> map = new EvvIntObjectMap<>();
+        for (int key : keys) {
+            map.put(key, value);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public HashMap<Integer, Object> intHashMapFill() {
+        HashMap<Integer, Object> map = new HashMap<>();
+        for (int key : keys) {
+            map.put(key, value);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public int intObjectMapGet() {
+        int found = 0;
+        for (int key : keys) {
+            if (intObjectMap.get(key) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int intHashMapGet() {
+        int found = 0;
+        for (int key : keys) {
+            if (intHashMap.get(key) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public EvvLongLongMap longLongMapFill() {
+        EvvLongLongMap map = new EvvLongLongMap();
+        for (int i = 0; i < keys.length; i++) {
+            map.put(keys[i], i);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public HashMap<Long, Long> longHashMapFill() {
+        HashMap<Long, Long> map = new HashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            map.put((long) keys[i], (long) i);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public long longLongMapGet() {
+        long sum = 0;
+        for (int key : keys) {
+            sum += longLongMap.get(key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long longHashMapGet() {
+        long sum = 0;
+        for (int key : keys) {
+            sum += longHashMap.get((long) key);
+        }
+        return sum;
+    }
+}
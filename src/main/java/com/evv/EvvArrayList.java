@@ -2,12 +2,15 @@ package com.evv;
 
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.function.Predicate;
 
 /**
  * Класс, реализующий функциональность по хранению объектов параметризованного типа T. <br>
  * Внутренним источником данных служит массив. <br>
  * Допускается хранение неограниченного количества элементов null. <br>
- * Гарантируется сохранение порядка добавления элементов в список.
+ * Гарантируется сохранение порядка добавления элементов в список. <br>
+ * По запросу список ведет ограниченный журнал изменений (см. {@link #enableChangeTracking(int)}), а снимок
+ * содержимого ({@link #snapshot()}) создается за O(1) и разделяет массив со списком до первого изменения.
  */
 public class EvvArrayList <T> {
 
@@ -31,6 +34,21 @@ public class EvvArrayList <T> {
      */
     private int size = 0;
 
+    /**
+     * Журнал изменений, null если отслеживание изменений не включено
+     */
+    private EvvChangeLog<T> changeLog;
+
+    /**
+     * Кэш хешей блоков для сравнения списков, null если список еще не сравнивался
+     */
+    private EvvBlockHashCache blockHashes;
+
+    /**
+     * true если массив списка разделяется со снимком и должен быть скопирован перед изменением
+     */
+    private boolean shared = false;
+
     /**
      * Создает пустой список с размером массива списка по умолчанию.
      */
@@ -58,6 +76,13 @@ public class EvvArrayList <T> {
         this.data = tempData;
     }
 
+    private EvvArrayList(T[] data, int size) {
+        this.data = data;
+        this.capacity = data.length;
+        this.size = size;
+        this.shared = true;
+    }
+
     /**
      * Добавляет новый элемент в конец списка.
      *
@@ -65,13 +90,87 @@ public class EvvArrayList <T> {
      * @return true в случае успешного добавления элемента
      */
     public boolean add(T elem) {
-        if ((size == capacity - 1) || (capacity == 0)) { // второе условие на случай если список был создан через конструктор с параметром capacity равным нулю
-            increaseSize();
+        if (size == capacity) { // в том числе на случай если список был создан через конструктор с параметром capacity равным нулю
+            increaseSize(size + 1);
         }
+        prepareWrite();
         data[size++] = elem;
+        registerChange(EvvListChange.Operation.ADD, size - 1, 1, elem);
+        return true;
+    }
+
+    /**
+     * Вставляет новый элемент в список по указанному индексу. Элементы, начиная с этого индекса, сдвигаются вправо.
+     *
+     * @param index индекс, по которому вставляется элемент
+     * @param elem  добавляемый элемент
+     * @throws IndexOutOfBoundsException если переданный индекс отрицательный или превосходит размер списка
+     */
+    public void add(int index, T elem) {
+        Objects.checkIndex(index, size + 1);
+        if (size == capacity) {
+            increaseSize(size + 1);
+        }
+        prepareWrite();
+        System.arraycopy(data, index, data, index + 1, size - index);
+        data[index] = elem;
+        size++;
+        registerChange(EvvListChange.Operation.ADD, index, 1, elem);
+    }
+
+    /**
+     * Добавляет все элементы переданного списка в конец списка. <br>
+     * Массив списка увеличивается не более одного раза, элементы копируются одним вызовом System.arraycopy.
+     *
+     * @param other список, элементы которого добавляются
+     * @return true если список изменился
+     * @throws NullPointerException если переданный список null
+     */
+    public boolean addAll(EvvArrayList<? extends T> other) {
+        int otherSize = other.size; // запоминаем до копирования на случай добавления списка в самого себя
+        if (otherSize == 0) {
+            return false;
+        }
+        ensureCapacity(size + otherSize);
+        prepareWrite();
+        System.arraycopy(other.data, 0, data, size, otherSize);
+        if (changeLog != null) {
+            for (int i = size; i < size + otherSize; i++) {
+                changeLog.record(EvvListChange.Operation.ADD, i, 1, data[i]);
+            }
+        }
+        if (blockHashes != null) {
+            blockHashes.invalidateFrom(size);
+        }
+        size += otherSize;
         return true;
     }
 
+    /**
+     * Увеличивает размер массива списка, если это необходимо, чтобы в нем поместилось
+     * не менее указанного количества элементов без перестроения.
+     *
+     * @param minCapacity минимальный требуемый размер массива списка
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > capacity) {
+            increaseSize(minCapacity);
+        }
+    }
+
+    /**
+     * Удаляет все элементы из списка. Размер массива списка сохраняется.
+     */
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+        prepareWrite();
+        Arrays.fill(data, 0, size, null);
+        registerChange(EvvListChange.Operation.REMOVE, 0, size, null);
+        size = 0;
+    }
+
     /**
      * Удаляет первое вхождение указанного элемента из списка.
      *
@@ -81,14 +180,87 @@ public class EvvArrayList <T> {
     public boolean remove(T elem) {
         int idx = findFistOccurrence(elem);
         if (idx != -1) {
-            shiftDownDataTail(idx + 1);
+            shiftDownDataTail(idx + 1, 1);
             size--;
+            registerChange(EvvListChange.Operation.REMOVE, idx, 1, null);
             return true;
         } else {
             return false;
         }
     }
 
+    /**
+     * Удаляет элемент, располагающийся в списке по указанному индексу. Последующие элементы сдвигаются влево.
+     *
+     * @param index индекс удаляемого элемента
+     * @return удаленный элемент
+     * @throws IndexOutOfBoundsException если переданный индекс отрицательный или превосходит размер списка
+     */
+    public T remove(int index) {
+        Objects.checkIndex(index, size);
+        T oldElem = data[index];
+        shiftDownDataTail(index + 1, 1);
+        size--;
+        registerChange(EvvListChange.Operation.REMOVE, index, 1, null);
+        return oldElem;
+    }
+
+    /**
+     * Удаляет элементы списка с индексами от from включительно до to не включительно.
+     *
+     * @param from начальная граница диапазона индексов
+     * @param to   конечная граница диапазона индексов
+     * @throws IndexOutOfBoundsException если переданный диапазон индексов противоречивый или одна из границ диапазона
+     *                                   превосходит размер списка
+     */
+    public void removeRange(int from, int to) {
+        Objects.checkFromToIndex(from, to, size);
+        int count = to - from;
+        if (count == 0) {
+            return;
+        }
+        shiftDownDataTail(to, count);
+        size -= count;
+        registerChange(EvvListChange.Operation.REMOVE, from, count, null);
+    }
+
+    /**
+     * Удаляет все элементы, удовлетворяющие условию. <br>
+     * Сначала условие проверяется для всех элементов, а удаляемые отмечаются в битовой маске, поэтому исключение
+     * из условия оставляет список, его снимки и журнал изменений без изменений. Затем оставшиеся элементы
+     * сдвигаются к началу массива за один проход, освободившиеся ячейки хвоста обнуляются.
+     *
+     * @param filter условие удаления элемента
+     * @return true если был удален хотя бы один элемент
+     */
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        long[] removed = new long[(size + 63) >>> 6];
+        int removedCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (filter.test(data[i])) {
+                removed[i >>> 6] |= 1L << i;
+                removedCount++;
+            }
+        }
+        if (removedCount == 0) {
+            return false; // массив, разделяемый со снимком, не копируется
+        }
+        prepareWrite();
+        int newSize = 0;
+        for (int i = 0; i < size; i++) {
+            if ((removed[i >>> 6] & (1L << i)) == 0) {
+                data[newSize++] = data[i];
+            } else {
+                // после удаления всех предыдущих элементов удаляемый элемент стоит сразу за оставленными
+                registerChange(EvvListChange.Operation.REMOVE, newSize, 1, null);
+            }
+        }
+        Arrays.fill(data, newSize, size, null); // освобождаем ссылки в хвосте для сборщика мусора
+        size = newSize;
+        return true;
+    }
+
     /**
      * Возвращает элемент, располагающийся в списке по указанному индексу.
      * @param index индекс запрашиваемого элемента
@@ -109,8 +281,10 @@ public class EvvArrayList <T> {
      */
     public T set(int index, T elem) {
         Objects.checkIndex(index, size);
+        prepareWrite();
         T oldElem = data[index];
         data[index] = elem;
+        registerChange(EvvListChange.Operation.SET, index, 1, elem);
         return oldElem;
     }
 
@@ -140,11 +314,140 @@ public class EvvArrayList <T> {
         return size;
     }
 
+    /**
+     * Возвращает ленивое представление элементов списка для построения цепочки filter/map/skip/limit,
+     * выполняемой за один проход по массиву списка.
+     *
+     * @return представление элементов списка
+     * @see EvvListView
+     */
+    public EvvListView<T> view() {
+        return new EvvListView<>(action -> {
+            for (int i = 0; i < size; i++) {
+                if (!action.test(data[i])) {
+                    return;
+                }
+            }
+        }, this::size, true);
+    }
+
+    /**
+     * Включает отслеживание изменений списка. Каждое последующее изменение (добавление, замена, удаление)
+     * записывается в журнал и увеличивает версию списка на единицу, начиная с нулевой. <br>
+     * Журнал хранит не более maxChanges последних изменений, более старые вытесняются.
+     *
+     * @param maxChanges максимальное количество изменений в журнале
+     * @throws IllegalArgumentException если переданный размер журнала меньше единицы
+     * @throws IllegalStateException    если отслеживание изменений уже включено
+     */
+    public void enableChangeTracking(int maxChanges) {
+        if (changeLog != null) {
+            throw new IllegalStateException("Отслеживание изменений уже включено");
+        }
+        changeLog = new EvvChangeLog<>(maxChanges);
+    }
+
+    /**
+     * Возвращает текущую версию списка - количество изменений с момента включения отслеживания.
+     *
+     * @return версия списка
+     * @throws IllegalStateException если отслеживание изменений не включено
+     */
+    public long getVersion() {
+        return checkedChangeLog().getVersion();
+    }
+
+    /**
+     * Возвращает изменения списка, выполненные после указанной версии, в порядке их выполнения. <br>
+     * Если часть этих изменений уже вытеснена из журнала, получатель должен заново получить все содержимое
+     * списка, например через {@link #snapshot()}.
+     *
+     * @param version версия, после которой запрашиваются изменения
+     * @return новый список изменений
+     * @throws IllegalStateException    если отслеживание изменений не включено
+     * @throws IllegalArgumentException если изменения после указанной версии вытеснены из журнала
+     *                                  или версия больше текущей
+     */
+    public EvvArrayList<EvvListChange<T>> changesSince(long version) {
+        return checkedChangeLog().changesSince(version);
+    }
+
+    /**
+     * Возвращает снимок содержимого списка за O(1). Снимок и список разделяют массив, пока один из них
+     * не изменится: перед первым изменением изменяемый список копирует массив. <br>
+     * Снимок является обычным списком без отслеживания изменений; при включенном отслеживании его содержимое
+     * соответствует версии {@link #getVersion()} на момент вызова.
+     *
+     * @return снимок списка
+     */
+    public EvvArrayList<T> snapshot() {
+        shared = true;
+        return new EvvArrayList<>(data, size);
+    }
+
 
-    private void increaseSize() {
-        int newSize = (capacity * 3) / 2 + 1;
+    private void increaseSize(int minCapacity) {
+        int newSize = Math.max((capacity * 3) / 2 + 1, minCapacity);
         data = Arrays.copyOf(data, newSize);
         capacity = newSize;
+        shared = false;
+    }
+
+    /**
+     * Возвращает хеши блоков списка (см. {@link EvvBlockHashCache}), пересчитывая только измененные блоки.
+     * Длина массива может превышать количество блоков.
+     *
+     * @return хеши блоков
+     */
+    long[] blockHashes() {
+        if (blockHashes == null) {
+            blockHashes = new EvvBlockHashCache();
+        }
+        int blockCount = blockHashes.prepare(size);
+        for (int block = 0; block < blockCount; block++) {
+            if (!blockHashes.isValid(block)) {
+                int to = Math.min((block + 1) * EvvBlockHashCache.BLOCK_SIZE, size);
+                long hash = EvvBlockHashCache.seed();
+                for (int i = block * EvvBlockHashCache.BLOCK_SIZE; i < to; i++) {
+                    hash = EvvBlockHashCache.combine(hash, data[i]);
+                }
+                blockHashes.set(block, hash);
+            }
+        }
+        return blockHashes.hashes();
+    }
+
+    /**
+     * Копирует массив списка, если он разделяется со снимком
+     */
+    private void prepareWrite() {
+        if (shared) {
+            data = Arrays.copyOf(data, capacity);
+            shared = false;
+        }
+    }
+
+    /**
+     * Записывает изменение в журнал изменений и сбрасывает хеши затронутых блоков
+     */
+    private void registerChange(EvvListChange.Operation operation, int index, int count, T value) {
+        if (changeLog != null) {
+            changeLog.record(operation, index, count, value);
+        }
+        if (blockHashes != null) {
+            if (operation == EvvListChange.Operation.SET) {
+                blockHashes.invalidate(index);
+            } else { // вставка и удаление сдвигают все последующие элементы
+                blockHashes.invalidateFrom(index);
+            }
+        }
+    }
+
+    private EvvChangeLog<T> checkedChangeLog() {
+        if (changeLog == null) {
+            throw new IllegalStateException("Отслеживание изменений не включено");
+        }
+        return changeLog;
     }
 
 
@@ -161,11 +464,10 @@ public class EvvArrayList <T> {
         return -1;
     }
 
-    private void shiftDownDataTail(int from) {
-        for (int i = from; i < size; i++) {
-            data[i - 1] = data[i];
-        }
-        data[size - 1] = null;
+    private void shiftDownDataTail(int from, int count) {
+        prepareWrite();
+        System.arraycopy(data, from, data, from - count, size - from);
+        Arrays.fill(data, size - count, size, null); // освобождаем ссылки в хвосте для сборщика мусора
     }
 
     @Override
@@ -0,0 +1,97 @@
+package com.evv;
+
+import java.util.Arrays;
+
+/**
+ * Кэш хешей блоков списка для {@link EvvListDiff}. <br>
+ * Список делится на блоки по BLOCK_SIZE элементов; хеш блока - полиномиальный хеш хеш-кодов его элементов.
+ * Список сбрасывает хеш блока при замене элемента и хеши всех блоков начиная с блока изменения при вставке
+ * или удалении, поэтому при следующем сравнении пересчитываются только измененные блоки.
+ */
+class EvvBlockHashCache {
+
+    /**
+     * Количество элементов в блоке
+     */
+    static final int BLOCK_SIZE = 64;
+
+    /**
+     * Множитель полиномиального хеша (простое число FNV-1 для 64 бит)
+     */
+    private static final long MULTIPLIER = 0x100000001B3L;
+
+    /**
+     * Начальное значение хеша блока
+     */
+    private static final long SEED = 0xCBF29CE484222325L;
+
+    /**
+     * Хеши блоков
+     */
+    private long[] hashes = new long[0];
+
+    /**
+     * Признаки актуальности хешей блоков с номерами меньше validLimit
+     */
+    private boolean[] valid = new boolean[0];
+
+    /**
+     * Номер блока, начиная с которого все хеши неактуальны
+     */
+    private int validLimit = 0;
+
+    /**
+     * Сбрасывает хеш блока, содержащего элемент с указанным индексом
+     */
+    void invalidate(int index) {
+        int block = index / BLOCK_SIZE;
+        if (block < validLimit) {
+            valid[block] = false;
+        }
+    }
+
+    /**
+     * Сбрасывает хеши всех блоков, начиная с блока, содержащего элемент с указанным индексом
+     */
+    void invalidateFrom(int index) {
+        validLimit = Math.min(validLimit, index / BLOCK_SIZE);
+    }
+
+    /**
+     * Подготавливает кэш к списку указанного размера и возвращает количество блоков
+     */
+    int prepare(int size) {
+        int blockCount = (size + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        if (blockCount > hashes.length) {
+            hashes = Arrays.copyOf(hashes, blockCount);
+            valid = Arrays.copyOf(valid, blockCount);
+        }
+        Arrays.fill(valid, Math.min(validLimit, blockCount), blockCount, false);
+        validLimit = blockCount;
+        return blockCount;
+    }
+
+    boolean isValid(int block) {
+        return valid[block];
+    }
+
+    void set(int block, long hash) {
+        hashes[block] = hash;
+        valid[block] = true;
+    }
+
+    /**
+     * Возвращает массив хешей блоков, его длина может превышать количество блоков
+     */
+    long[] hashes() {
+        return hashes;
+    }
+
+    static long seed() {
+        return SEED;
+    }
+
+    static long combine(long hash, Object elem) {
+        return (hash ^ (elem == null ? 0 : elem.hashCode())) * MULTIPLIER;
+    }
+}
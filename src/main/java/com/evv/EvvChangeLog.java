@@ -0,0 +1,101 @@
+package com.evv;
+
+/**
+ * Ограниченный журнал изменений списка {@link EvvArrayList}. <br>
+ * Изменения хранятся в кольцевом буфере из параллельных массивов, поэтому запись изменения не создает объектов;
+ * объекты {@link EvvListChange} создаются только при чтении журнала. При заполнении буфера самые старые
+ * изменения вытесняются. Каждое изменение увеличивает версию на единицу, поэтому версии не хранятся,
+ * а вычисляются по положению изменения в буфере.
+ *
+ * @param <T> тип элементов списка
+ */
+class EvvChangeLog<T> {
+
+    /**
+     * Виды изменений
+     */
+    private final EvvListChange.Operation[] operations;
+
+    /**
+     * Индексы изменений
+     */
+    private final int[] indexes;
+
+    /**
+     * Количество элементов в изменениях
+     */
+    private final int[] counts;
+
+    /**
+     * Элементы изменений
+     */
+    private final Object[] values;
+
+    /**
+     * Позиция самого старого изменения в буфере
+     */
+    private int start = 0;
+
+    /**
+     * Количество изменений в буфере
+     */
+    private int length = 0;
+
+    /**
+     * Версия списка после последнего изменения
+     */
+    private long version = 0;
+
+    EvvChangeLog(int maxChanges) {
+        if (maxChanges < 1) {
+            throw new IllegalArgumentException("Передан неверный размер журнала изменений: " + maxChanges);
+        }
+        operations = new EvvListChange.Operation[maxChanges];
+        indexes = new int[maxChanges];
+        counts = new int[maxChanges];
+        values = new Object[maxChanges];
+    }
+
+    void record(EvvListChange.Operation operation, int index, int count, T value) {
+        int pos;
+        if (length == operations.length) { // вытесняем самое старое изменение
+            pos = start;
+            start = (start + 1) % operations.length;
+        } else {
+            pos = (start + length) % operations.length;
+            length++;
+        }
+        operations[pos] = operation;
+        indexes[pos] = index;
+        counts[pos] = count;
+        values[pos] = value;
+        version++;
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    /**
+     * Возвращает наименьшую версию, начиная с которой журнал может вернуть все последующие изменения
+     */
+    long getOldestVersion() {
+        return version - length;
+    }
+
+    EvvArrayList<EvvListChange<T>> changesSince(long sinceVersion) {
+        if (sinceVersion < getOldestVersion() || sinceVersion > version) {
+            throw new IllegalArgumentException("Журнал не содержит изменений после версии: " + sinceVersion);
+        }
+        int skip = (int) (sinceVersion - getOldestVersion());
+        EvvArrayList<EvvListChange<T>> result = new EvvArrayList<>(length - skip);
+        for (int i = skip; i < length; i++) {
+            int pos = (start + i) % operations.length;
+            @SuppressWarnings("unchecked") // в массиве хранятся только элементы типа T
+            T value = (T) values[pos];
+            result.add(new EvvListChange<>(operations[pos], getOldestVersion() + i + 1, indexes[pos], counts[pos],
+                    value));
+        }
+        return result;
+    }
+}
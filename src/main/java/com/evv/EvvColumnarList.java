@@ -0,0 +1,539 @@
+package com.evv;
+
+import com.evv.EvvRecordSchema.ColumnType;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.Function;
+import java.util.function.LongPredicate;
+
+/**
+ * Класс, реализующий функциональность по хранению записей из нескольких полей примитивных типов. <br>
+ * Внутренним источником данных служат отдельные массивы для каждого поля (столбца) записи, описанного
+ * схемой {@link EvvRecordSchema}, поэтому на запись не создается отдельный объект, а проход по одному полю
+ * последовательно читает один массив. <br>
+ * Доступ к записям выполняется через переиспользуемый объект-курсор {@link Record}. <br>
+ * Гарантируется сохранение порядка добавления записей в список.
+ */
+public class EvvColumnarList {
+
+    /**
+     * Размер массивов столбцов по умолчанию
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Схема записи
+     */
+    private final EvvRecordSchema schema;
+
+    /**
+     * Массивы столбцов типа int, null для столбцов других типов
+     */
+    private final int[][] intColumns;
+
+    /**
+     * Массивы столбцов типа long, null для столбцов других типов
+     */
+    private final long[][] longColumns;
+
+    /**
+     * Массивы столбцов типа double, null для столбцов других типов
+     */
+    private final double[][] doubleColumns;
+
+    /**
+     * Переиспользуемый курсор, возвращаемый методами {@link #get(int)} и {@link #addRecord()}
+     */
+    private final Record flyweight = new Record();
+
+    /**
+     * Размер массивов столбцов
+     */
+    private int capacity;
+
+    /**
+     * Количество записей
+     */
+    private int size = 0;
+
+    /**
+     * Создает пустой список с заданной схемой и размером массивов столбцов по умолчанию.
+     *
+     * @param schema схема записи
+     */
+    public EvvColumnarList(EvvRecordSchema schema) {
+        this(schema, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создает пустой список с заданной схемой и размером массивов столбцов.
+     *
+     * @param schema   схема записи
+     * @param capacity размер массивов столбцов
+     * @throws IllegalArgumentException если переданный размер массивов отрицательный
+     */
+    public EvvColumnarList(EvvRecordSchema schema, int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Передан неверный размер массива списка: " + capacity);
+        }
+        this.schema = schema.copy();
+        this.capacity = capacity;
+        int columnCount = this.schema.columnCount();
+        intColumns = new int[columnCount][];
+        longColumns = new long[columnCount][];
+        doubleColumns = new double[columnCount][];
+        for (int col = 0; col < columnCount; col++) {
+            switch (this.schema.typeOf(col)) {
+                case INT:
+                    intColumns[col] = new int[capacity];
+                    break;
+                case LONG:
+                    longColumns[col] = new long[capacity];
+                    break;
+                default:
+                    doubleColumns[col] = new double[capacity];
+            }
+        }
+    }
+
+    /**
+     * Создает список из элементов переданного списка.
+     *
+     * @param list   исходный список
+     * @param schema схема записи
+     * @param writer функция, заполняющая поля записи по элементу исходного списка
+     * @param <T>    тип элементов исходного списка
+     * @return новый список
+     */
+    public static <T> EvvColumnarList fromArrayList(EvvArrayList<? extends T> list, EvvRecordSchema schema,
+                                                    BiConsumer<? super T, ? super Record> writer) {
+        EvvColumnarList result = new EvvColumnarList(schema, list.size());
+        for (int i = 0; i < list.size(); i++) {
+            writer.accept(list.get(i), result.addRecord());
+        }
+        return result;
+    }
+
+    /**
+     * Добавляет в конец списка новую запись с нулевыми значениями полей.
+     *
+     * @return переиспользуемый курсор, установленный на добавленную запись
+     */
+    public Record addRecord() {
+        if (size == capacity) {
+            increaseSize(size + 1);
+        }
+        flyweight.index = size++;
+        return flyweight;
+    }
+
+    /**
+     * Возвращает курсор, установленный на запись по указанному индексу. <br>
+     * Курсор переиспользуется: следующий вызов get или addRecord переставит его на другую запись.
+     *
+     * @param index индекс записи
+     * @return переиспользуемый курсор
+     * @throws IndexOutOfBoundsException если переданный индекс отрицательный или превосходит размер списка
+     */
+    public Record get(int index) {
+        Objects.checkIndex(index, size);
+        flyweight.index = index;
+        return flyweight;
+    }
+
+    /**
+     * Удаляет запись по указанному индексу. Последующие записи сдвигаются влево.
+     *
+     * @param index индекс удаляемой записи
+     * @throws IndexOutOfBoundsException если переданный индекс отрицательный или превосходит размер списка
+     */
+    public void remove(int index) {
+        Objects.checkIndex(index, size);
+        int tailLength = size - index - 1;
+        for (int col = 0; col < schema.columnCount(); col++) {
+            Object column = columnArray(col);
+            System.arraycopy(column, index + 1, column, index, tailLength);
+        }
+        size--;
+        clearRow(size); // освободившаяся запись будет переиспользована addRecord и должна быть нулевой
+    }
+
+    /**
+     * Возвращает схему записи списка
+     *
+     * @return копия схемы записи
+     */
+    public EvvRecordSchema schema() {
+        return schema.copy();
+    }
+
+    /**
+     * Возвращает количество записей
+     *
+     * @return количество записей
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает сумму значений целочисленного поля по всем записям.
+     *
+     * @param column номер поля типа int или long
+     * @return сумма значений
+     * @throws IllegalArgumentException если поле не целочисленное
+     */
+    public long sumLong(int column) {
+        long sum = 0;
+        if (schema.typeOf(column) == ColumnType.INT) {
+            int[] values = intColumns[column];
+            for (int i = 0; i < size; i++) {
+                sum += values[i];
+            }
+        } else {
+            long[] values = longColumns(column);
+            for (int i = 0; i < size; i++) {
+                sum += values[i];
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Возвращает сумму значений поля по всем записям.
+     *
+     * @param column номер поля
+     * @return сумма значений
+     */
+    public double sumDouble(int column) {
+        if (schema.typeOf(column) != ColumnType.DOUBLE) {
+            return sumLong(column);
+        }
+        double[] values = doubleColumns[column];
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Возвращает среднее значение поля по всем записям.
+     *
+     * @param column номер поля
+     * @return среднее значение или NaN если список пуст
+     */
+    public double average(int column) {
+        return size == 0 ? Double.NaN : sumDouble(column) / size;
+    }
+
+    /**
+     * Возвращает количество записей, значение целочисленного поля которых удовлетворяет условию.
+     *
+     * @param column    номер поля типа int или long
+     * @param predicate условие
+     * @return количество записей
+     * @throws IllegalArgumentException если поле не целочисленное
+     */
+    public int countLong(int column, LongPredicate predicate) {
+        int count = 0;
+        if (schema.typeOf(column) == ColumnType.INT) {
+            int[] values = intColumns[column];
+            for (int i = 0; i < size; i++) {
+                if (predicate.test(values[i])) {
+                    count++;
+                }
+            }
+        } else {
+            long[] values = longColumns(column);
+            for (int i = 0; i < size; i++) {
+                if (predicate.test(values[i])) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Возвращает количество записей, значение поля типа double которых удовлетворяет условию.
+     *
+     * @param column    номер поля типа double
+     * @param predicate условие
+     * @return количество записей
+     * @throws IllegalArgumentException если поле не типа double
+     */
+    public int countDouble(int column, DoublePredicate predicate) {
+        double[] values = doubleColumns(column);
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(values[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Возвращает новый список из записей, значение целочисленного поля которых удовлетворяет условию.
+     *
+     * @param column    номер поля типа int или long
+     * @param predicate условие
+     * @return новый список
+     * @throws IllegalArgumentException если поле не целочисленное
+     */
+    public EvvColumnarList filterLong(int column, LongPredicate predicate) {
+        int[] matches = new int[size];
+        int count = 0;
+        if (schema.typeOf(column) == ColumnType.INT) {
+            int[] values = intColumns[column];
+            for (int i = 0; i < size; i++) {
+                if (predicate.test(values[i])) {
+                    matches[count++] = i;
+                }
+            }
+        } else {
+            long[] values = longColumns(column);
+            for (int i = 0; i < size; i++) {
+                if (predicate.test(values[i])) {
+                    matches[count++] = i;
+                }
+            }
+        }
+        return gather(matches, count);
+    }
+
+    /**
+     * Возвращает новый список из записей, значение поля типа double которых удовлетворяет условию.
+     *
+     * @param column    номер поля типа double
+     * @param predicate условие
+     * @return новый список
+     * @throws IllegalArgumentException если поле не типа double
+     */
+    public EvvColumnarList filterDouble(int column, DoublePredicate predicate) {
+        double[] values = doubleColumns(column);
+        int[] matches = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(values[i])) {
+                matches[count++] = i;
+            }
+        }
+        return gather(matches, count);
+    }
+
+    /**
+     * Преобразует записи списка в объекты и возвращает их в виде нового списка.
+     *
+     * @param reader функция, создающая объект по записи
+     * @param <T>    тип элементов нового списка
+     * @return новый список
+     */
+    public <T> EvvArrayList<T> toArrayList(Function<? super Record, ? extends T> reader) {
+        EvvArrayList<T> result = new EvvArrayList<>(size);
+        Record record = new Record();
+        for (int i = 0; i < size; i++) {
+            record.index = i;
+            result.add(reader.apply(record));
+        }
+        return result;
+    }
+
+    /**
+     * Внутренний класс курсора, предоставляющего доступ к полям одной записи списка
+     */
+    public final class Record {
+
+        /**
+         * Индекс записи, на которую установлен курсор
+         */
+        private int index;
+
+        private Record() {
+        }
+
+        /**
+         * Возвращает индекс записи, на которую установлен курсор
+         *
+         * @return индекс записи
+         */
+        public int index() {
+            return index;
+        }
+
+        /**
+         * Возвращает значение поля типа int.
+         *
+         * @param column номер поля
+         * @return значение поля
+         * @throws IllegalArgumentException если поле не типа int
+         */
+        public int getInt(int column) {
+            return intColumns(column)[index];
+        }
+
+        /**
+         * Возвращает значение целочисленного поля.
+         *
+         * @param column номер поля типа int или long
+         * @return значение поля
+         * @throws IllegalArgumentException если поле не целочисленное
+         */
+        public long getLong(int column) {
+            return readLong(column, index);
+        }
+
+        /**
+         * Возвращает значение поля в виде double.
+         *
+         * @param column номер поля
+         * @return значение поля
+         */
+        public double getDouble(int column) {
+            if (schema.typeOf(column) == ColumnType.DOUBLE) {
+                return doubleColumns[column][index];
+            }
+            return readLong(column, index);
+        }
+
+        /**
+         * Устанавливает значение поля типа int.
+         *
+         * @param column номер поля
+         * @param value  значение поля
+         * @return этот курсор
+         * @throws IllegalArgumentException если поле не типа int
+         */
+        public Record setInt(int column, int value) {
+            intColumns(column)[index] = value;
+            return this;
+        }
+
+        /**
+         * Устанавливает значение поля типа long.
+         *
+         * @param column номер поля
+         * @param value  значение поля
+         * @return этот курсор
+         * @throws IllegalArgumentException если поле не типа long
+         */
+        public Record setLong(int column, long value) {
+            longColumns(column)[index] = value;
+            return this;
+        }
+
+        /**
+         * Устанавливает значение поля типа double.
+         *
+         * @param column номер поля
+         * @param value  значение поля
+         * @return этот курсор
+         * @throws IllegalArgumentException если поле не типа double
+         */
+        public Record setDouble(int column, double value) {
+            doubleColumns(column)[index] = value;
+            return this;
+        }
+    }
+
+    private long readLong(int column, int row) {
+        if (schema.typeOf(column) == ColumnType.INT) {
+            return intColumns[column][row];
+        }
+        return longColumns(column)[row];
+    }
+
+    private int[] intColumns(int column) {
+        checkType(column, ColumnType.INT);
+        return intColumns[column];
+    }
+
+    private long[] longColumns(int column) {
+        checkType(column, ColumnType.LONG);
+        return longColumns[column];
+    }
+
+    private double[] doubleColumns(int column) {
+        checkType(column, ColumnType.DOUBLE);
+        return doubleColumns[column];
+    }
+
+    private void checkType(int column, ColumnType expected) {
+        ColumnType actual = schema.typeOf(column);
+        if (actual != expected) {
+            throw new IllegalArgumentException("Поле " + schema.nameOf(column) + " имеет тип " + actual
+                    + ", ожидался тип " + expected);
+        }
+    }
+
+    private void clearRow(int row) {
+        for (int col = 0; col < schema.columnCount(); col++) {
+            switch (schema.typeOf(col)) {
+                case INT:
+                    intColumns[col][row] = 0;
+                    break;
+                case LONG:
+                    longColumns[col][row] = 0L;
+                    break;
+                default:
+                    doubleColumns[col][row] = 0.0;
+            }
+        }
+    }
+
+    private Object columnArray(int column) {
+        switch (schema.typeOf(column)) {
+            case INT:
+                return intColumns[column];
+            case LONG:
+                return longColumns[column];
+            default:
+                return doubleColumns[column];
+        }
+    }
+
+    private EvvColumnarList gather(int[] rows, int count) {
+        EvvColumnarList result = new EvvColumnarList(schema, count);
+        for (int col = 0; col < schema.columnCount(); col++) {
+            switch (schema.typeOf(col)) {
+                case INT:
+                    for (int i = 0; i < count; i++) {
+                        result.intColumns[col][i] = intColumns[col][rows[i]];
+                    }
+                    break;
+                case LONG:
+                    for (int i = 0; i < count; i++) {
+                        result.longColumns[col][i] = longColumns[col][rows[i]];
+                    }
+                    break;
+                default:
+                    for (int i = 0; i < count; i++) {
+                        result.doubleColumns[col][i] = doubleColumns[col][rows[i]];
+                    }
+            }
+        }
+        result.size = count;
+        return result;
+    }
+
+    private void increaseSize(int minCapacity) {
+        int newSize = Math.max((capacity * 3) / 2 + 1, minCapacity);
+        for (int col = 0; col < schema.columnCount(); col++) {
+            switch (schema.typeOf(col)) {
+                case INT:
+                    intColumns[col] = Arrays.copyOf(intColumns[col], newSize);
+                    break;
+                case LONG:
+                    longColumns[col] = Arrays.copyOf(longColumns[col], newSize);
+                    break;
+                default:
+                    doubleColumns[col] = Arrays.copyOf(doubleColumns[col], newSize);
+            }
+        }
+        capacity = newSize;
+    }
+}
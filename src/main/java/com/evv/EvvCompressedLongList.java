@@ -0,0 +1,360 @@
+package com.evv;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+
+/**
+ * Класс, реализующий сжатое хранение неубывающей последовательности чисел типа long (например, отсортированных
+ * идентификаторов). <br>
+ * Значения разбиваются на блоки по {@value #BLOCK_SIZE} элементов. В блоке хранится первое значение, а остальные
+ * записываются как разности с предыдущим значением, упакованные одинаковым для блока минимальным количеством бит. <br>
+ * Первые значения блоков образуют индекс для бинарного поиска, поэтому доступ по индексу и поиск значения
+ * просматривают упакованные разности не более одного блока без выделения памяти. Последний неполный блок
+ * хранится несжатым. <br>
+ * Элементы можно только добавлять в конец списка, значения null отсутствуют.
+ */
+public class EvvCompressedLongList {
+
+    /**
+     * Количество значений в блоке
+     */
+    static final int BLOCK_SIZE = 128;
+
+    /**
+     * Упакованные разности значений всех полных блоков
+     */
+    private long[] words = new long[16];
+
+    /**
+     * Количество занятых элементов массива words
+     */
+    private int wordCount = 0;
+
+    /**
+     * Первые значения полных блоков (индекс для поиска)
+     */
+    private long[] blockFirst = new long[4];
+
+    /**
+     * Смещения начала упакованных разностей полных блоков в массиве words
+     */
+    private int[] blockOffset = new int[4];
+
+    /**
+     * Количество бит на одну разность в каждом полном блоке
+     */
+    private byte[] blockWidth = new byte[4];
+
+    /**
+     * Количество полных блоков
+     */
+    private int blockCount = 0;
+
+    /**
+     * Значения последнего неполного блока в несжатом виде
+     */
+    private final long[] tail = new long[BLOCK_SIZE];
+
+    /**
+     * Количество значений в последнем неполном блоке
+     */
+    private int tailSize = 0;
+
+    /**
+     * Размер списка
+     */
+    private int size = 0;
+
+    /**
+     * Последнее добавленное значение
+     */
+    private long last;
+
+    /**
+     * Создает пустой список.
+     */
+    public EvvCompressedLongList() {
+    }
+
+    /**
+     * Создает сжатый список из отсортированного по неубыванию списка.
+     *
+     * @param sorted отсортированный по неубыванию список без элементов null
+     * @return новый сжатый список
+     * @throws IllegalArgumentException если список не отсортирован
+     * @throws NullPointerException     если список содержит null
+     */
+    public static EvvCompressedLongList of(EvvArrayList<Long> sorted) {
+        EvvCompressedLongList result = new EvvCompressedLongList();
+        for (int i = 0; i < sorted.size(); i++) {
+            result.add(sorted.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Добавляет новое значение в конец списка.
+     *
+     * @param value добавляемое значение
+     * @return true в случае успешного добавления значения
+     * @throws IllegalArgumentException если значение меньше последнего добавленного
+     */
+    public boolean add(long value) {
+        if (size > 0 && value < last) {
+            throw new IllegalArgumentException("Значение " + value + " меньше последнего добавленного " + last);
+        }
+        tail[tailSize++] = value;
+        last = value;
+        size++;
+        if (tailSize == BLOCK_SIZE) {
+            sealTail();
+        }
+        return true;
+    }
+
+    /**
+     * Возвращает значение, располагающееся в списке по указанному индексу. Декодируется не более одного блока.
+     *
+     * @param index индекс запрашиваемого значения
+     * @return значение, соответствующее переданному индексу
+     * @throws IndexOutOfBoundsException если переданный индекс отрицательный или превосходит размер списка
+     */
+    public long get(int index) {
+        Objects.checkIndex(index, size);
+        int block = index / BLOCK_SIZE;
+        int pos = index % BLOCK_SIZE;
+        if (block == blockCount) {
+            return tail[pos];
+        }
+        int width = blockWidth[block];
+        long bitPos = (long) blockOffset[block] * Long.SIZE;
+        long value = blockFirst[block];
+        for (int i = 0; i < pos; i++) {
+            value += readBits(bitPos, width);
+            bitPos += width;
+        }
+        return value;
+    }
+
+    /**
+     * Возвращает индекс первого вхождения значения в список.
+     *
+     * @param value искомое значение
+     * @return индекс первого вхождения значения или -1 если значение не найдено
+     */
+    public int indexOf(long value) {
+        if (size == 0 || value > last) {
+            return -1;
+        }
+        int block = findLastBlockBelow(value);
+        if (block == -1) { // значит все значения не меньше искомого
+            return blockFirstValue(0) == value ? 0 : -1;
+        }
+        int pos = block == blockCount ? indexInTail(value) : indexInBlock(block, value);
+        if (pos != -1) {
+            return block * BLOCK_SIZE + pos;
+        }
+        int nextBlock = block + 1; // значение может начинать следующий блок
+        if (nextBlock < totalBlocks() && blockFirstValue(nextBlock) == value) {
+            return nextBlock * BLOCK_SIZE;
+        }
+        return -1;
+    }
+
+    /**
+     * Проверяет наличие значения в списке.
+     *
+     * @param value искомое значение
+     * @return true если значение есть в списке
+     */
+    public boolean contains(long value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Возвращает итератор по значениям списка. Блоки декодируются по одному по мере продвижения. <br>
+     * Добавление значений в список во время обхода не допускается.
+     *
+     * @return итератор по значениям списка
+     */
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+
+            private final long[] buffer = new long[BLOCK_SIZE];
+
+            private final int limit = size;
+
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < limit;
+            }
+
+            @Override
+            public long nextLong() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int block = index / BLOCK_SIZE;
+                int pos = index % BLOCK_SIZE;
+                index++;
+                if (block == blockCount) {
+                    return tail[pos];
+                }
+                if (pos == 0) {
+                    decodeBlock(block, buffer);
+                }
+                return buffer[pos];
+            }
+        };
+    }
+
+    /**
+     * Возвращает размер списка
+     *
+     * @return размер списка
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает приблизительный объем памяти, занимаемый массивами списка, без учета заголовков объектов
+     *
+     * @return объем памяти в байтах
+     */
+    public long estimatedBytes() {
+        return (long) words.length * Long.BYTES
+                + (long) blockFirst.length * (Long.BYTES + Integer.BYTES + Byte.BYTES)
+                + (long) tail.length * Long.BYTES;
+    }
+
+    private void sealTail() {
+        long maxDelta = 0;
+        for (int i = 1; i < BLOCK_SIZE; i++) {
+            maxDelta |= tail[i] - tail[i - 1]; // разности неотрицательны, для ширины достаточно объединения бит
+        }
+        int width = Long.SIZE - Long.numberOfLeadingZeros(maxDelta);
+        int wordsNeeded = (width * (BLOCK_SIZE - 1) + Long.SIZE - 1) / Long.SIZE;
+
+        if (blockCount == blockFirst.length) {
+            int newSize = (blockFirst.length * 3) / 2 + 1;
+            blockFirst = Arrays.copyOf(blockFirst, newSize);
+            blockOffset = Arrays.copyOf(blockOffset, newSize);
+            blockWidth = Arrays.copyOf(blockWidth, newSize);
+        }
+        if (wordCount + wordsNeeded > words.length) {
+            words = Arrays.copyOf(words, Math.max((words.length * 3) / 2 + 1, wordCount + wordsNeeded));
+        }
+
+        blockFirst[blockCount] = tail[0];
+        blockOffset[blockCount] = wordCount;
+        blockWidth[blockCount] = (byte) width;
+        long bitPos = (long) wordCount * Long.SIZE;
+        for (int i = 1; i < BLOCK_SIZE; i++) {
+            writeBits(bitPos, tail[i] - tail[i - 1], width);
+            bitPos += width;
+        }
+        wordCount += wordsNeeded;
+        blockCount++;
+        tailSize = 0;
+    }
+
+    private void decodeBlock(int block, long[] out) {
+        int width = blockWidth[block];
+        long bitPos = (long) blockOffset[block] * Long.SIZE;
+        long value = blockFirst[block];
+        out[0] = value;
+        for (int i = 1; i < BLOCK_SIZE; i++) {
+            value += readBits(bitPos, width);
+            out[i] = value;
+            bitPos += width;
+        }
+    }
+
+    /**
+     * Возвращает позицию значения в полном блоке или -1 если его нет. Разности читаются из упакованного
+     * представления без декодирования блока, просмотр прекращается на первом значении не меньше искомого.
+     */
+    private int indexInBlock(int block, long value) {
+        int width = blockWidth[block];
+        long bitPos = (long) blockOffset[block] * Long.SIZE;
+        long current = blockFirst[block];
+        for (int i = 1; i < BLOCK_SIZE; i++) {
+            current += readBits(bitPos, width);
+            if (current >= value) {
+                return current == value ? i : -1;
+            }
+            bitPos += width;
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает позицию значения в последнем неполном блоке или -1 если его нет
+     */
+    private int indexInTail(long value) {
+        for (int i = 0; i < tailSize && tail[i] <= value; i++) {
+            if (tail[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает номер последнего блока (с учетом неполного последнего блока), первое значение которого
+     * строго меньше искомого, или -1 если такого блока нет.
+     */
+    private int findLastBlockBelow(long value) {
+        int low = 0;
+        int high = totalBlocks() - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (blockFirstValue(mid) < value) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    private int totalBlocks() {
+        return tailSize > 0 ? blockCount + 1 : blockCount;
+    }
+
+    private long blockFirstValue(int block) {
+        return block == blockCount ? tail[0] : blockFirst[block];
+    }
+
+    private void writeBits(long bitPos, long value, int width) {
+        if (width == 0) {
+            return;
+        }
+        int wordIdx = (int) (bitPos >>> 6);
+        int shift = (int) (bitPos & 63);
+        words[wordIdx] |= value << shift;
+        if (shift + width > Long.SIZE) {
+            words[wordIdx + 1] |= value >>> (Long.SIZE - shift);
+        }
+    }
+
+    private long readBits(long bitPos, int width) {
+        if (width == 0) {
+            return 0;
+        }
+        int wordIdx = (int) (bitPos >>> 6);
+        int shift = (int) (bitPos & 63);
+        long value = words[wordIdx] >>> shift;
+        if (shift + width > Long.SIZE) {
+            value |= words[wordIdx + 1] << (Long.SIZE - shift);
+        }
+        return width == Long.SIZE ? value : value & ((1L << width) - 1);
+    }
+}
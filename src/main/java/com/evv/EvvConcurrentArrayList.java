@@ -0,0 +1,182 @@
+package com.evv;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Потокобезопасный вариант {@link EvvArrayList}. <br>
+ * Каждая операция выполняется над внутренним списком под блокировкой {@link ReentrantReadWriteLock}:
+ * чтение (get, size, subList) - под общей блокировкой, изменения - под исключительной,
+ * поэтому все операции линеаризуемы. <br>
+ * Допускается хранение неограниченного количества элементов null. <br>
+ * Гарантируется сохранение порядка добавления элементов в список.
+ */
+public class EvvConcurrentArrayList<T> {
+
+    /**
+     * Внутренний список
+     */
+    private final EvvArrayList<T> list;
+
+    /**
+     * Блокировка чтения внутреннего списка
+     */
+    private final Lock readLock;
+
+    /**
+     * Блокировка изменения внутреннего списка
+     */
+    private final Lock writeLock;
+
+    /**
+     * Создает пустой список с размером массива списка по умолчанию.
+     */
+    public EvvConcurrentArrayList() {
+        this(new EvvArrayList<>());
+    }
+
+    /**
+     * Создает пустой список с заданным размером массива списка.
+     *
+     * @param capacity размер массива списка
+     * @throws IllegalArgumentException если переданный размер массива списка отрицательный
+     */
+    public EvvConcurrentArrayList(int capacity) {
+        this(new EvvArrayList<>(capacity));
+    }
+
+    private EvvConcurrentArrayList(EvvArrayList<T> list) {
+        this.list = list;
+        ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        this.readLock = lock.readLock();
+        this.writeLock = lock.writeLock();
+    }
+
+    /**
+     * Добавляет новый элемент в конец списка.
+     *
+     * @param elem добавляемый элемент
+     * @return true в случае успешного добавления элемента
+     */
+    public boolean add(T elem) {
+        writeLock.lock();
+        try {
+            return list.add(elem);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Вставляет новый элемент в список по указанному индексу.
+     *
+     * @param index индекс, по которому вставляется элемент
+     * @param elem  добавляемый элемент
+     * @throws IndexOutOfBoundsException если переданный индекс отрицательный или превосходит размер списка
+     */
+    public void add(int index, T elem) {
+        writeLock.lock();
+        try {
+            list.add(index, elem);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Удаляет первое вхождение указанного элемента из списка.
+     *
+     * @param elem элемент, подлежащий удалению
+     * @return true если элемент был найден и удален
+     */
+    public boolean remove(T elem) {
+        writeLock.lock();
+        try {
+            return list.remove(elem);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Удаляет элемент, располагающийся в списке по указанному индексу.
+     *
+     * @param index индекс удаляемого элемента
+     * @return удаленный элемент
+     * @throws IndexOutOfBoundsException если переданный индекс отрицательный или превосходит размер списка
+     */
+    public T remove(int index) {
+        writeLock.lock();
+        try {
+            return list.remove(index);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Возвращает элемент, располагающийся в списке по указанному индексу.
+     *
+     * @param index индекс запрашиваемого элемента
+     * @return элемент, соответствующий переданному индексу
+     * @throws IndexOutOfBoundsException если переданный индекс отрицательный или превосходит размер списка
+     */
+    public T get(int index) {
+        readLock.lock();
+        try {
+            return list.get(index);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Замещает элемент списка по указанному индексу.
+     *
+     * @param index индекс элемента списка, подлежащего замещению
+     * @param elem  элемент для замены существующего в списке
+     * @return замещенный элемент
+     * @throws IndexOutOfBoundsException если переданный индекс отрицательный или превосходит размер списка
+     */
+    public T set(int index, T elem) {
+        writeLock.lock();
+        try {
+            return list.set(index, elem);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Возвращает новый (не потокобезопасный) список из элементов списка с индексами от from включительно
+     * до to не включительно.
+     *
+     * @param from начальная граница диапазона индексов
+     * @param to   конечная граница диапазона индексов
+     * @return новый список
+     * @throws IndexOutOfBoundsException если переданный диапазон индексов противоречивый или одна из границ диапазона
+     *                                   превосходит размер списка
+     */
+    public EvvArrayList<T> subList(int from, int to) {
+        readLock.lock();
+        try {
+            return list.subList(from, to);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Возвращает размер списка
+     *
+     * @return размер списка
+     */
+    public int size() {
+        readLock.lock();
+        try {
+            return list.size();
+        } finally {
+            readLock.unlock();
+        }
+    }
+}
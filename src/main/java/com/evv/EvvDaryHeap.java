@@ -0,0 +1,202 @@
+package com.evv;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Класс, реализующий очередь с приоритетом на основе d-арной кучи. <br>
+ * Внутренним источником данных служит список {@link EvvArrayList}: элементы кучи лежат в его массиве по уровням,
+ * а увеличение массива выполняется тем же способом, что и при добавлении в список. <br>
+ * Добавление и извлечение выполняются за O(log n) по основанию d, построение кучи из набора элементов - за O(n).
+ * Большая арность уменьшает высоту кучи и число перемещений при добавлении ценой большего числа сравнений
+ * при извлечении. <br>
+ * Первым извлекается наименьший элемент согласно компаратору или естественному порядку.
+ * Хранение элементов null не допускается. Класс не является потокобезопасным.
+ *
+ * @param <T> тип элементов
+ */
+public class EvvDaryHeap<T> {
+
+    /**
+     * Арность кучи по умолчанию
+     */
+    private static final int DEFAULT_ARITY = 4;
+
+    /**
+     * Элементы кучи: потомки элемента с индексом i располагаются по индексам от i * arity + 1 до i * arity + arity
+     */
+    private final EvvArrayList<T> heap;
+
+    /**
+     * Количество потомков каждого элемента
+     */
+    private final int arity;
+
+    /**
+     * Компаратор элементов, null если используется естественный порядок
+     */
+    private final Comparator<? super T> comparator;
+
+    /**
+     * Создает пустую 4-арную кучу с естественным порядком элементов.
+     */
+    public EvvDaryHeap() {
+        this(DEFAULT_ARITY, null);
+    }
+
+    /**
+     * Создает пустую кучу с заданной арностью и компаратором.
+     *
+     * @param arity      количество потомков каждого элемента
+     * @param comparator компаратор элементов или null для естественного порядка
+     * @throws IllegalArgumentException если переданная арность меньше двух
+     */
+    public EvvDaryHeap(int arity, Comparator<? super T> comparator) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Передана неверная арность кучи: " + arity);
+        }
+        this.heap = new EvvArrayList<>();
+        this.arity = arity;
+        this.comparator = comparator;
+    }
+
+    /**
+     * Добавляет элемент в кучу за O(log n).
+     *
+     * @param elem добавляемый элемент
+     * @return true в случае успешного добавления элемента
+     * @throws NullPointerException если переданный элемент null
+     */
+    public boolean offer(T elem) {
+        Objects.requireNonNull(elem);
+        heap.add(elem);
+        siftUp(heap.size() - 1, elem);
+        return true;
+    }
+
+    /**
+     * Добавляет все элементы переданного списка и восстанавливает кучу одним проходом снизу вверх за O(n). <br>
+     * Выгоднее последовательных вызовов offer, когда добавляемых элементов сопоставимо с размером кучи.
+     *
+     * @param elements добавляемые элементы
+     * @throws NullPointerException если переданный список null или содержит null
+     */
+    public void heapify(EvvArrayList<? extends T> elements) {
+        for (int i = 0; i < elements.size(); i++) {
+            Objects.requireNonNull(elements.get(i));
+        }
+        heap.addAll(elements);
+        if (heap.size() < 2) {
+            return;
+        }
+        for (int i = parentOf(heap.size() - 1); i >= 0; i--) {
+            siftDown(i, heap.get(i));
+        }
+    }
+
+    /**
+     * Извлекает наименьший элемент кучи за O(d * log n).
+     *
+     * @return наименьший элемент или null если куча пуста
+     */
+    public T poll() {
+        if (heap.size() == 0) {
+            return null;
+        }
+        T result = heap.get(0);
+        T last = heap.remove(heap.size() - 1); // удаление последнего элемента не сдвигает массив
+        if (heap.size() > 0) {
+            siftDown(0, last);
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает наименьший элемент кучи без извлечения.
+     *
+     * @return наименьший элемент или null если куча пуста
+     */
+    public T peek() {
+        return heap.size() == 0 ? null : heap.get(0);
+    }
+
+    /**
+     * Извлекает наименьший элемент кучи.
+     *
+     * @return наименьший элемент
+     * @throws NoSuchElementException если куча пуста
+     */
+    public T remove() {
+        if (heap.size() == 0) {
+            throw new NoSuchElementException("Куча пуста");
+        }
+        return poll();
+    }
+
+    /**
+     * Возвращает количество элементов кучи
+     *
+     * @return количество элементов
+     */
+    public int size() {
+        return heap.size();
+    }
+
+    /**
+     * Проверяет, пуста ли куча
+     *
+     * @return true если куча пуста
+     */
+    public boolean isEmpty() {
+        return heap.size() == 0;
+    }
+
+    private void siftUp(int index, T elem) {
+        while (index > 0) {
+            int parent = parentOf(index);
+            T parentElem = heap.get(parent);
+            if (compare(elem, parentElem) >= 0) {
+                break;
+            }
+            heap.set(index, parentElem);
+            index = parent;
+        }
+        heap.set(index, elem);
+    }
+
+    private void siftDown(int index, T elem) {
+        int size = heap.size();
+        while (true) {
+            int firstChild = index * arity + 1;
+            if (firstChild >= size || firstChild < 0) { // firstChild < 0 при переполнении на очень больших кучах
+                break;
+            }
+            int minChild = firstChild;
+            T minElem = heap.get(firstChild);
+            int lastChild = Math.min(firstChild + arity, size);
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                T childElem = heap.get(child);
+                if (compare(childElem, minElem) < 0) {
+                    minChild = child;
+                    minElem = childElem;
+                }
+            }
+            if (compare(minElem, elem) >= 0) {
+                break;
+            }
+            heap.set(index, minElem);
+            index = minChild;
+        }
+        heap.set(index, elem);
+    }
+
+    private int parentOf(int index) {
+        return (index - 1) / arity;
+    }
+
+    @SuppressWarnings("unchecked") // без компаратора элементы обязаны реализовывать Comparable
+    private int compare(T a, T b) {
+        return comparator == null ? ((Comparable<? super T>) a).compareTo(b) : comparator.compare(a, b);
+    }
+}
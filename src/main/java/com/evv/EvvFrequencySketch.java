@@ -0,0 +1,102 @@
+package com.evv;
+
+/**
+ * Вероятностная оценка частоты обращений к ключам (Count-Min Sketch) для политики вытеснения W-TinyLFU. <br>
+ * Счетчики ограничены значением 15. После заданного количества обращений все счетчики делятся пополам,
+ * чтобы устаревшая популярность ключей постепенно затухала.
+ */
+class EvvFrequencySketch {
+
+    /**
+     * Максимальное значение счетчика
+     */
+    private static final int MAX_COUNT = 15;
+
+    /**
+     * Количество строк (хеш-функций) таблицы счетчиков
+     */
+    private static final int DEPTH = 4;
+
+    /**
+     * Затравки хеш-функций строк таблицы
+     */
+    private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+    /**
+     * Таблица счетчиков, строки расположены подряд
+     */
+    private final int[] table;
+
+    /**
+     * Маска ширины строки (ширина строки - степень двойки)
+     */
+    private final int widthMask;
+
+    /**
+     * Количество обращений, после которого счетчики делятся пополам
+     */
+    private final int sampleSize;
+
+    /**
+     * Количество обращений с момента последнего деления счетчиков
+     */
+    private int additions;
+
+    /**
+     * Создает оценку частоты для кэша с заданным ожидаемым количеством элементов.
+     *
+     * @param expectedSize ожидаемое количество элементов кэша
+     */
+    EvvFrequencySketch(long expectedSize) {
+        int width = Integer.highestOneBit((int) Math.max(16, Math.min(expectedSize, 1 << 24)) - 1) << 1;
+        this.table = new int[width * DEPTH];
+        this.widthMask = width - 1;
+        this.sampleSize = (int) Math.min(10L * Math.max(expectedSize, 1), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Увеличивает оценку частоты обращений к ключу.
+     *
+     * @param hash хеш-код ключа
+     */
+    void increment(int hash) {
+        boolean added = false;
+        for (int i = 0; i < DEPTH; i++) {
+            int idx = indexOf(hash, i);
+            if (table[idx] < MAX_COUNT) {
+                table[idx]++;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * Возвращает оценку частоты обращений к ключу.
+     *
+     * @param hash хеш-код ключа
+     * @return оценка частоты обращений
+     */
+    int frequency(int hash) {
+        int min = MAX_COUNT;
+        for (int i = 0; i < DEPTH; i++) {
+            min = Math.min(min, table[indexOf(hash, i)]);
+        }
+        return min;
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] >>>= 1;
+        }
+        additions >>>= 1;
+    }
+
+    private int indexOf(int hash, int row) {
+        int h = (hash ^ SEEDS[row]) * SEEDS[row];
+        h ^= (h >>> 16);
+        return row * (widthMask + 1) + (h & widthMask);
+    }
+}
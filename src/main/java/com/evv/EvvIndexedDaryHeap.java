@@ -0,0 +1,267 @@
+package com.evv;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Класс, реализующий индексированную очередь с приоритетом на основе d-арной кучи. <br>
+ * Каждый элемент очереди - идентификатор от 0 до maxId не включительно с приоритетом типа P.
+ * Для каждого идентификатора хранится его позиция в куче, поэтому приоритет элемента можно уменьшить
+ * за O(log n) без поиска элемента (decrease-key), что требуется, например, в алгоритме Дейкстры
+ * или при повышении срочности задачи планировщика. <br>
+ * Первым извлекается идентификатор с наименьшим приоритетом согласно компаратору или естественному порядку.
+ * Приоритеты null не допускаются. Класс не является потокобезопасным.
+ *
+ * @param <P> тип приоритетов
+ * @see EvvDaryHeap
+ */
+public class EvvIndexedDaryHeap<P> {
+
+    /**
+     * Арность кучи по умолчанию
+     */
+    private static final int DEFAULT_ARITY = 4;
+
+    /**
+     * Идентификаторы в порядке кучи
+     */
+    private final int[] heap;
+
+    /**
+     * Позиция каждого идентификатора в куче, -1 если идентификатора в куче нет
+     */
+    private final int[] positions;
+
+    /**
+     * Приоритет каждого идентификатора
+     */
+    private final P[] priorities;
+
+    /**
+     * Количество потомков каждого элемента
+     */
+    private final int arity;
+
+    /**
+     * Компаратор приоритетов, null если используется естественный порядок
+     */
+    private final Comparator<? super P> comparator;
+
+    /**
+     * Количество элементов кучи
+     */
+    private int size = 0;
+
+    /**
+     * Создает пустую 4-арную кучу для идентификаторов от 0 до maxId с естественным порядком приоритетов.
+     *
+     * @param maxId верхняя граница идентификаторов (не включительно)
+     * @throws IllegalArgumentException если переданная граница отрицательная
+     */
+    public EvvIndexedDaryHeap(int maxId) {
+        this(maxId, DEFAULT_ARITY, null);
+    }
+
+    /**
+     * Создает пустую кучу для идентификаторов от 0 до maxId с заданной арностью и компаратором.
+     *
+     * @param maxId      верхняя граница идентификаторов (не включительно)
+     * @param arity      количество потомков каждого элемента
+     * @param comparator компаратор приоритетов или null для естественного порядка
+     * @throws IllegalArgumentException если переданная граница отрицательная или арность меньше двух
+     */
+    public EvvIndexedDaryHeap(int maxId, int arity, Comparator<? super P> comparator) {
+        if (maxId < 0) {
+            throw new IllegalArgumentException("Передана неверная граница идентификаторов: " + maxId);
+        }
+        if (arity < 2) {
+            throw new IllegalArgumentException("Передана неверная арность кучи: " + arity);
+        }
+        this.heap = new int[maxId];
+        this.positions = new int[maxId];
+        Arrays.fill(positions, -1);
+        @SuppressWarnings("unchecked") // Аннотировано для возможности создания массива типа P[], т.к. нет конструкции new P[]
+        P[] tempPriorities = (P[]) new Object[maxId];
+        this.priorities = tempPriorities;
+        this.arity = arity;
+        this.comparator = comparator;
+    }
+
+    /**
+     * Добавляет идентификатор с приоритетом за O(log n).
+     *
+     * @param id       идентификатор
+     * @param priority приоритет
+     * @throws IndexOutOfBoundsException если идентификатор отрицательный или не меньше maxId
+     * @throws IllegalArgumentException  если идентификатор уже есть в куче
+     * @throws NullPointerException      если переданный приоритет null
+     */
+    public void offer(int id, P priority) {
+        Objects.checkIndex(id, positions.length);
+        Objects.requireNonNull(priority);
+        if (positions[id] != -1) {
+            throw new IllegalArgumentException("Идентификатор уже есть в куче: " + id);
+        }
+        priorities[id] = priority;
+        heap[size] = id;
+        positions[id] = size;
+        siftUp(size++);
+    }
+
+    /**
+     * Уменьшает приоритет идентификатора и восстанавливает кучу за O(log n).
+     *
+     * @param id       идентификатор
+     * @param priority новый приоритет, не больше текущего
+     * @throws IndexOutOfBoundsException если идентификатор отрицательный или не меньше maxId
+     * @throws NoSuchElementException    если идентификатора нет в куче
+     * @throws IllegalArgumentException  если новый приоритет больше текущего
+     * @throws NullPointerException      если переданный приоритет null
+     */
+    public void decreaseKey(int id, P priority) {
+        checkContains(id);
+        Objects.requireNonNull(priority);
+        if (compare(priority, priorities[id]) > 0) {
+            throw new IllegalArgumentException("Передан приоритет больше текущего: " + priority);
+        }
+        priorities[id] = priority;
+        siftUp(positions[id]);
+    }
+
+    /**
+     * Проверяет наличие идентификатора в куче.
+     *
+     * @param id идентификатор
+     * @return true если идентификатор есть в куче
+     * @throws IndexOutOfBoundsException если идентификатор отрицательный или не меньше maxId
+     */
+    public boolean contains(int id) {
+        Objects.checkIndex(id, positions.length);
+        return positions[id] != -1;
+    }
+
+    /**
+     * Возвращает приоритет идентификатора.
+     *
+     * @param id идентификатор
+     * @return приоритет
+     * @throws IndexOutOfBoundsException если идентификатор отрицательный или не меньше maxId
+     * @throws NoSuchElementException    если идентификатора нет в куче
+     */
+    public P priorityOf(int id) {
+        checkContains(id);
+        return priorities[id];
+    }
+
+    /**
+     * Возвращает идентификатор с наименьшим приоритетом без извлечения.
+     *
+     * @return идентификатор
+     * @throws NoSuchElementException если куча пуста
+     */
+    public int peekId() {
+        checkNotEmpty();
+        return heap[0];
+    }
+
+    /**
+     * Извлекает идентификатор с наименьшим приоритетом за O(d * log n).
+     *
+     * @return идентификатор
+     * @throws NoSuchElementException если куча пуста
+     */
+    public int pollId() {
+        checkNotEmpty();
+        int result = heap[0];
+        size--;
+        if (size > 0) {
+            move(heap[size], 0);
+            siftDown(0);
+        }
+        positions[result] = -1;
+        priorities[result] = null;
+        return result;
+    }
+
+    /**
+     * Возвращает количество элементов кучи
+     *
+     * @return количество элементов
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Проверяет, пуста ли куча
+     *
+     * @return true если куча пуста
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void siftUp(int index) {
+        int id = heap[index];
+        P priority = priorities[id];
+        while (index > 0) {
+            int parent = (index - 1) / arity;
+            int parentId = heap[parent];
+            if (compare(priority, priorities[parentId]) >= 0) {
+                break;
+            }
+            move(parentId, index);
+            index = parent;
+        }
+        move(id, index);
+    }
+
+    private void siftDown(int index) {
+        int id = heap[index];
+        P priority = priorities[id];
+        while (true) {
+            int firstChild = index * arity + 1;
+            if (firstChild >= size || firstChild < 0) { // firstChild < 0 при переполнении на очень больших кучах
+                break;
+            }
+            int minChild = firstChild;
+            int lastChild = Math.min(firstChild + arity, size);
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                if (compare(priorities[heap[child]], priorities[heap[minChild]]) < 0) {
+                    minChild = child;
+                }
+            }
+            int minId = heap[minChild];
+            if (compare(priorities[minId], priority) >= 0) {
+                break;
+            }
+            move(minId, index);
+            index = minChild;
+        }
+        move(id, index);
+    }
+
+    private void move(int id, int index) {
+        heap[index] = id;
+        positions[id] = index;
+    }
+
+    private void checkContains(int id) {
+        if (!contains(id)) {
+            throw new NoSuchElementException("Идентификатора нет в куче: " + id);
+        }
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("Куча пуста");
+        }
+    }
+
+    @SuppressWarnings("unchecked") // без компаратора приоритеты обязаны реализовывать Comparable
+    private int compare(P a, P b) {
+        return comparator == null ? ((Comparable<? super P>) a).compareTo(b) : comparator.compare(a, b);
+    }
+}
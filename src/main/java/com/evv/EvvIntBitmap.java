@@ -0,0 +1,559 @@
+package com.evv;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Класс, реализующий множество чисел типа int в виде сжатой битовой карты (по схеме Roaring). <br>
+ * Числа группируются по старшим 16 битам. Для каждой группы хранится контейнер с младшими 16 битами:
+ * отсортированный массив, пока в группе не более {@value #ARRAY_MAX_SIZE} чисел, иначе битовая карта на 65536 бит. <br>
+ * Проверка наличия числа выполняется бинарным поиском группы и поиском в контейнере, а пересечение,
+ * объединение и разность плотных групп вычисляются операциями над машинными словами. <br>
+ * Числа перебираются по возрастанию как беззнаковые, то есть отрицательные числа следуют за положительными.
+ */
+public class EvvIntBitmap {
+
+    /**
+     * Максимальное количество чисел в контейнере-массиве
+     */
+    static final int ARRAY_MAX_SIZE = 4096;
+
+    /**
+     * Количество слов long в контейнере-битовой карте
+     */
+    private static final int BITMAP_WORDS = 1 << 10;
+
+    /**
+     * Старшие 16 бит групп, отсортированы по возрастанию
+     */
+    private char[] keys = new char[4];
+
+    /**
+     * Контейнеры групп
+     */
+    private Container[] containers = new Container[4];
+
+    /**
+     * Количество групп
+     */
+    private int groupCount = 0;
+
+    /**
+     * Создает пустое множество.
+     */
+    public EvvIntBitmap() {
+    }
+
+    /**
+     * Добавляет число в множество.
+     *
+     * @param value добавляемое число
+     * @return true если числа не было в множестве
+     */
+    public boolean add(int value) {
+        char key = (char) (value >>> 16);
+        int idx = findGroup(key);
+        if (idx < 0) {
+            idx = -idx - 1;
+            insertGroup(idx, key, new ArrayContainer());
+        }
+        Container container = containers[idx];
+        long before = container.cardinality();
+        containers[idx] = container.add((char) value);
+        return containers[idx].cardinality() > before;
+    }
+
+    /**
+     * Удаляет число из множества.
+     *
+     * @param value удаляемое число
+     * @return true если число было в множестве
+     */
+    public boolean remove(int value) {
+        int idx = findGroup((char) (value >>> 16));
+        if (idx < 0) {
+            return false;
+        }
+        Container container = containers[idx];
+        long before = container.cardinality();
+        Container result = container.remove((char) value);
+        if (result.cardinality() == 0) {
+            removeGroup(idx);
+        } else {
+            containers[idx] = result;
+        }
+        return result.cardinality() < before;
+    }
+
+    /**
+     * Проверяет наличие числа в множестве.
+     *
+     * @param value искомое число
+     * @return true если число есть в множестве
+     */
+    public boolean contains(int value) {
+        int idx = findGroup((char) (value >>> 16));
+        return idx >= 0 && containers[idx].contains((char) value);
+    }
+
+    /**
+     * Возвращает количество чисел в множестве
+     *
+     * @return количество чисел в множестве
+     */
+    public long size() {
+        long size = 0;
+        for (int i = 0; i < groupCount; i++) {
+            size += containers[i].cardinality();
+        }
+        return size;
+    }
+
+    /**
+     * Возвращает итератор по числам множества в порядке возрастания беззнаковых значений.
+     * Изменение множества во время обхода не допускается.
+     *
+     * @return итератор по числам множества
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+
+            private int group = 0;
+
+            private PrimitiveIterator.OfInt current = groupCount > 0 ? containers[0].iterator() : null;
+
+            @Override
+            public boolean hasNext() {
+                while (current != null && !current.hasNext()) {
+                    group++;
+                    current = group < groupCount ? containers[group].iterator() : null;
+                }
+                return current != null;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return (keys[group] << 16) | current.nextInt();
+            }
+        };
+    }
+
+    /**
+     * Возвращает новое множество - пересечение этого и переданного множеств.
+     *
+     * @param other второе множество
+     * @return пересечение множеств
+     */
+    public EvvIntBitmap and(EvvIntBitmap other) {
+        EvvIntBitmap result = new EvvIntBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < groupCount && j < other.groupCount) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.appendGroup(keys[i], containers[i].and(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает новое множество - объединение этого и переданного множеств.
+     *
+     * @param other второе множество
+     * @return объединение множеств
+     */
+    public EvvIntBitmap or(EvvIntBitmap other) {
+        EvvIntBitmap result = new EvvIntBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < groupCount || j < other.groupCount) {
+            if (j == other.groupCount || (i < groupCount && keys[i] < other.keys[j])) {
+                result.appendGroup(keys[i], containers[i].copy());
+                i++;
+            } else if (i == groupCount || keys[i] > other.keys[j]) {
+                result.appendGroup(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.appendGroup(keys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает новое множество - разность этого и переданного множеств.
+     *
+     * @param other вычитаемое множество
+     * @return числа этого множества, отсутствующие в переданном
+     */
+    public EvvIntBitmap andNot(EvvIntBitmap other) {
+        EvvIntBitmap result = new EvvIntBitmap();
+        int j = 0;
+        for (int i = 0; i < groupCount; i++) {
+            while (j < other.groupCount && other.keys[j] < keys[i]) {
+                j++;
+            }
+            if (j < other.groupCount && other.keys[j] == keys[i]) {
+                result.appendGroup(keys[i], containers[i].andNot(other.containers[j]));
+            } else {
+                result.appendGroup(keys[i], containers[i].copy());
+            }
+        }
+        return result;
+    }
+
+    private int findGroup(char key) {
+        return Arrays.binarySearch(keys, 0, groupCount, key);
+    }
+
+    private void insertGroup(int idx, char key, Container container) {
+        if (groupCount == keys.length) {
+            int newSize = (keys.length * 3) / 2 + 1;
+            keys = Arrays.copyOf(keys, newSize);
+            containers = Arrays.copyOf(containers, newSize);
+        }
+        System.arraycopy(keys, idx, keys, idx + 1, groupCount - idx);
+        System.arraycopy(containers, idx, containers, idx + 1, groupCount - idx);
+        keys[idx] = key;
+        containers[idx] = container;
+        groupCount++;
+    }
+
+    private void removeGroup(int idx) {
+        System.arraycopy(keys, idx + 1, keys, idx, groupCount - idx - 1);
+        System.arraycopy(containers, idx + 1, containers, idx, groupCount - idx - 1);
+        containers[--groupCount] = null;
+    }
+
+    /**
+     * Добавляет группу в конец, используется при построении результатов операций над множествами
+     */
+    private void appendGroup(char key, Container container) {
+        if (container.cardinality() > 0) {
+            insertGroup(groupCount, key, container);
+        }
+    }
+
+    /**
+     * Контейнер младших 16 бит чисел одной группы. Изменяющие методы возвращают контейнер,
+     * который нужно сохранить вместо текущего, так как при переполнении меняется его вид.
+     */
+    private abstract static class Container {
+
+        abstract Container add(char value);
+
+        abstract Container remove(char value);
+
+        abstract boolean contains(char value);
+
+        abstract int cardinality();
+
+        abstract PrimitiveIterator.OfInt iterator();
+
+        abstract Container copy();
+
+        abstract long[] toWords();
+
+        Container and(Container other) {
+            if (this instanceof ArrayContainer) {
+                return ((ArrayContainer) this).filter(other, true);
+            }
+            if (other instanceof ArrayContainer) {
+                return ((ArrayContainer) other).filter(this, true);
+            }
+            long[] words = toWords();
+            long[] otherWords = other.toWords();
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                words[i] &= otherWords[i];
+            }
+            return BitmapContainer.optimize(words);
+        }
+
+        Container or(Container other) {
+            if (this instanceof ArrayContainer && other instanceof ArrayContainer
+                    && cardinality() + other.cardinality() <= ARRAY_MAX_SIZE) {
+                return ((ArrayContainer) this).union((ArrayContainer) other);
+            }
+            long[] words = toWords();
+            long[] otherWords = other.toWords();
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                words[i] |= otherWords[i];
+            }
+            return BitmapContainer.optimize(words);
+        }
+
+        Container andNot(Container other) {
+            if (this instanceof ArrayContainer) {
+                return ((ArrayContainer) this).filter(other, false);
+            }
+            long[] words = toWords();
+            long[] otherWords = other.toWords();
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                words[i] &= ~otherWords[i];
+            }
+            return BitmapContainer.optimize(words);
+        }
+    }
+
+    /**
+     * Контейнер в виде отсортированного массива младших 16 бит
+     */
+    private static final class ArrayContainer extends Container {
+
+        /**
+         * Отсортированные значения
+         */
+        private char[] values;
+
+        /**
+         * Количество значений
+         */
+        private int cardinality;
+
+        ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(char value) {
+            int idx = Arrays.binarySearch(values, 0, cardinality, value);
+            if (idx >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_MAX_SIZE) { // переполненный массив превращается в битовую карту
+                return new BitmapContainer(toWords(), cardinality).add(value);
+            }
+            idx = -idx - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min((values.length * 3) / 2 + 1, ARRAY_MAX_SIZE));
+            }
+            System.arraycopy(values, idx, values, idx + 1, cardinality - idx);
+            values[idx] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            int idx = Arrays.binarySearch(values, 0, cardinality, value);
+            if (idx >= 0) {
+                System.arraycopy(values, idx + 1, values, idx, cardinality - idx - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        PrimitiveIterator.OfInt iterator() {
+            return new PrimitiveIterator.OfInt() {
+
+                private int idx = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return idx < cardinality;
+                }
+
+                @Override
+                public int nextInt() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return values[idx++];
+                }
+            };
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, cardinality), cardinality);
+        }
+
+        @Override
+        long[] toWords() {
+            long[] words = new long[BITMAP_WORDS];
+            for (int i = 0; i < cardinality; i++) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+            return words;
+        }
+
+        /**
+         * Возвращает значения этого контейнера, присутствующие (или отсутствующие) в другом контейнере
+         */
+        ArrayContainer filter(Container other, boolean keepContained) {
+            char[] result = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i]) == keepContained) {
+                    result[count++] = values[i];
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        ArrayContainer union(ArrayContainer other) {
+            char[] result = new char[cardinality + other.cardinality];
+            int i = 0;
+            int j = 0;
+            int count = 0;
+            while (i < cardinality || j < other.cardinality) {
+                if (j == other.cardinality || (i < cardinality && values[i] < other.values[j])) {
+                    result[count++] = values[i++];
+                } else if (i == cardinality || values[i] > other.values[j]) {
+                    result[count++] = other.values[j++];
+                } else {
+                    result[count++] = values[i++];
+                    j++;
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+    }
+
+    /**
+     * Контейнер в виде битовой карты на 65536 бит
+     */
+    private static final class BitmapContainer extends Container {
+
+        /**
+         * Слова битовой карты
+         */
+        private final long[] words;
+
+        /**
+         * Количество установленных бит
+         */
+        private int cardinality;
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        /**
+         * Создает контейнер по словам битовой карты, выбирая массив, если значений немного
+         */
+        static Container optimize(long[] words) {
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+            BitmapContainer bitmap = new BitmapContainer(words, cardinality);
+            return cardinality > ARRAY_MAX_SIZE ? bitmap : bitmap.toArrayContainer();
+        }
+
+        @Override
+        Container add(char value) {
+            long mask = 1L << value;
+            int idx = value >>> 6;
+            if ((words[idx] & mask) == 0) {
+                words[idx] |= mask;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            long mask = 1L << value;
+            int idx = value >>> 6;
+            if ((words[idx] & mask) != 0) {
+                words[idx] &= ~mask;
+                cardinality--;
+                if (cardinality <= ARRAY_MAX_SIZE) { // поредевшая битовая карта превращается обратно в массив
+                    return toArrayContainer();
+                }
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        PrimitiveIterator.OfInt iterator() {
+            return new PrimitiveIterator.OfInt() {
+
+                private int wordIdx = 0;
+
+                private long word = words[0];
+
+                @Override
+                public boolean hasNext() {
+                    while (word == 0 && wordIdx < BITMAP_WORDS - 1) {
+                        word = words[++wordIdx];
+                    }
+                    return word != 0;
+                }
+
+                @Override
+                public int nextInt() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    int bit = Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                    return (wordIdx << 6) | bit;
+                }
+            };
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        long[] toWords() {
+            return words.clone();
+        }
+
+        ArrayContainer toArrayContainer() {
+            char[] values = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    values[count++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(values, count);
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.evv;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Класс, реализующий хеш-таблицу с ключами типа int и значениями параметризованного типа V. <br>
+ * Используется открытая адресация с линейным пробированием: ключи и значения хранятся в двух параллельных
+ * массивах, размер которых - степень двойки, поэтому на пару не создается отдельный объект и ключи не упаковываются. <br>
+ * Удаление выполняется обратным сдвигом последующих элементов цепочки, без пометок удаленных ячеек. <br>
+ * Допускаются любые ключи и значения null. Класс не является потокобезопасным.
+ *
+ * @param <V> тип значений
+ */
+public class EvvIntObjectMap<V> {
+
+    /**
+     * Размер таблицы по умолчанию
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Максимальная доля занятых ячеек таблицы, при превышении которой таблица увеличивается вдвое
+     */
+    private static final float LOAD_FACTOR = 0.5f;
+
+    /**
+     * Значение ключа, обозначающее свободную ячейку. Пара с таким ключом хранится отдельно
+     */
+    private static final int FREE_KEY = 0;
+
+    /**
+     * Функция обработки пар ключ-значение
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+
+        void accept(int key, V value);
+    }
+
+    /**
+     * Ключи таблицы
+     */
+    private int[] keys;
+
+    /**
+     * Значения таблицы
+     */
+    private V[] values;
+
+    /**
+     * Маска индекса ячейки (размер таблицы минус один)
+     */
+    private int mask;
+
+    /**
+     * Количество пар, при достижении которого таблица увеличивается
+     */
+    private int threshold;
+
+    /**
+     * Количество пар в таблице без учета пары с ключом FREE_KEY
+     */
+    private int tableSize = 0;
+
+    /**
+     * true если есть пара с ключом FREE_KEY
+     */
+    private boolean hasFreeKey = false;
+
+    /**
+     * Значение пары с ключом FREE_KEY
+     */
+    private V freeKeyValue;
+
+    /**
+     * Создает пустую таблицу с размером по умолчанию.
+     */
+    public EvvIntObjectMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создает пустую таблицу, в которую можно поместить заданное количество пар без увеличения.
+     *
+     * @param expectedSize ожидаемое количество пар
+     * @throws IllegalArgumentException если переданное количество отрицательное
+     */
+    public EvvIntObjectMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Передан неверный размер таблицы: " + expectedSize);
+        }
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * Возвращает значение, соответствующее ключу.
+     *
+     * @param key ключ
+     * @return значение или null если ключ отсутствует
+     */
+    public V get(int key) {
+        if (key == FREE_KEY) {
+            return freeKeyValue;
+        }
+        int idx = findSlot(key);
+        return keys[idx] == FREE_KEY ? null : values[idx];
+    }
+
+    /**
+     * Проверяет наличие ключа в таблице.
+     *
+     * @param key ключ
+     * @return true если ключ присутствует
+     */
+    public boolean containsKey(int key) {
+        if (key == FREE_KEY) {
+            return hasFreeKey;
+        }
+        return keys[findSlot(key)] != FREE_KEY;
+    }
+
+    /**
+     * Помещает пару в таблицу, заменяя значение, ранее соответствовавшее ключу.
+     *
+     * @param key   ключ
+     * @param value значение
+     * @return замещенное значение или null если ключ отсутствовал
+     */
+    public V put(int key, V value) {
+        if (key == FREE_KEY) {
+            V oldValue = freeKeyValue;
+            hasFreeKey = true;
+            freeKeyValue = value;
+            return oldValue;
+        }
+        int idx = findSlot(key);
+        if (keys[idx] != FREE_KEY) {
+            V oldValue = values[idx];
+            values[idx] = value;
+            return oldValue;
+        }
+        keys[idx] = key;
+        values[idx] = value;
+        if (++tableSize > threshold) {
+            rehash(keys.length * 2);
+        }
+        return null;
+    }
+
+    /**
+     * Удаляет пару с указанным ключом.
+     *
+     * @param key ключ
+     * @return удаленное значение или null если ключ отсутствовал
+     */
+    public V remove(int key) {
+        if (key == FREE_KEY) {
+            V oldValue = freeKeyValue;
+            hasFreeKey = false;
+            freeKeyValue = null;
+            return oldValue;
+        }
+        int idx = findSlot(key);
+        if (keys[idx] == FREE_KEY) {
+            return null;
+        }
+        V oldValue = values[idx];
+        shiftKeys(idx);
+        tableSize--;
+        return oldValue;
+    }
+
+    /**
+     * Возвращает количество пар в таблице
+     *
+     * @return количество пар
+     */
+    public int size() {
+        return hasFreeKey ? tableSize + 1 : tableSize;
+    }
+
+    /**
+     * Удаляет все пары из таблицы. Размер таблицы сохраняется.
+     */
+    public void clear() {
+        Arrays.fill(keys, FREE_KEY);
+        Arrays.fill(values, null);
+        tableSize = 0;
+        hasFreeKey = false;
+        freeKeyValue = null;
+    }
+
+    /**
+     * Передает каждую пару таблицы функции в порядке ячеек таблицы.
+     *
+     * @param action функция обработки пар
+     */
+    public void forEach(EntryConsumer<? super V> action) {
+        Objects.requireNonNull(action);
+        if (hasFreeKey) {
+            action.accept(FREE_KEY, freeKeyValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE_KEY) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * Возвращает индекс ячейки с ключом или первой свободной ячейки на его цепочке
+     */
+    private int findSlot(int key) {
+        int idx = mix(key) & mask;
+        while (keys[idx] != FREE_KEY && keys[idx] != key) {
+            idx = (idx + 1) & mask;
+        }
+        return idx;
+    }
+
+    /**
+     * Освобождает ячейку, сдвигая на ее место последующие элементы цепочки, которые могут в ней находиться
+     */
+    private void shiftKeys(int free) {
+        int idx = free;
+        while (true) {
+            idx = (idx + 1) & mask;
+            int key = keys[idx];
+            if (key == FREE_KEY) {
+                break;
+            }
+            int ideal = mix(key) & mask;
+            // элемент переносится, если его исходная ячейка не лежит между освобожденной и текущей
+            if (((idx - ideal) & mask) >= ((idx - free) & mask)) {
+                keys[free] = key;
+                values[free] = values[idx];
+                free = idx;
+            }
+        }
+        keys[free] = FREE_KEY;
+        values[free] = null;
+    }
+
+    private void rehash(int newCapacity) {
+        int[] oldKeys = keys;
+        V[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != FREE_KEY) {
+                int idx = findSlot(key);
+                keys[idx] = key;
+                values[idx] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        @SuppressWarnings("unchecked") // Аннотировано для возможности создания массива типа V[], т.к. нет конструкции new V[]
+        V[] tempValues = (V[]) new Object[capacity];
+        values = tempValues;
+        mask = capacity - 1;
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        long needed = Math.max(DEFAULT_CAPACITY, (long) Math.ceil(expectedSize / LOAD_FACTOR) + 1);
+        if (needed > (1 << 30)) {
+            throw new IllegalArgumentException("Слишком большой размер таблицы: " + expectedSize);
+        }
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9; // мультипликативное хеширование Фибоначчи
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,249 @@
+package com.evv;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Класс, реализующий ограниченную по размеру блокирующую очередь объектов параметризованного типа T. <br>
+ * Внутренним источником данных служит связанный список {@link EvvLinkedList}. <br>
+ * Для синхронизации используются {@link ReentrantLock} и условия вместо мониторов (synchronized/wait),
+ * поэтому ожидающие виртуальные потоки не закрепляются за потоком-носителем. <br>
+ * Хранение элементов null не допускается. <br>
+ * Гарантируется порядок извлечения элементов в порядке их добавления (FIFO).
+ */
+public class EvvLinkedBlockingQueue<T> {
+
+    /**
+     * Список элементов очереди
+     */
+    private final EvvLinkedList<T> list = new EvvLinkedList<>();
+
+    /**
+     * Максимальный размер очереди
+     */
+    private final int capacity;
+
+    /**
+     * Блокировка, защищающая доступ к списку элементов
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Условие ожидания появления элементов в очереди
+     */
+    private final Condition notEmpty = lock.newCondition();
+
+    /**
+     * Условие ожидания освобождения места в очереди
+     */
+    private final Condition notFull = lock.newCondition();
+
+    /**
+     * Создает пустую очередь с заданным максимальным размером.
+     *
+     * @param capacity максимальный размер очереди
+     * @throws IllegalArgumentException если переданный максимальный размер очереди не положительный
+     */
+    public EvvLinkedBlockingQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Передан неверный размер очереди: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Добавляет элемент в конец очереди, ожидая освобождения места при необходимости.
+     *
+     * @param elem добавляемый элемент
+     * @throws NullPointerException если переданный элемент null
+     * @throws InterruptedException если поток был прерван во время ожидания
+     */
+    public void put(T elem) throws InterruptedException {
+        Objects.requireNonNull(elem);
+        lock.lockInterruptibly();
+        try {
+            while (list.size() == capacity) {
+                notFull.await();
+            }
+            enqueue(elem);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Добавляет элемент в конец очереди, если в ней есть свободное место.
+     *
+     * @param elem добавляемый элемент
+     * @return true если элемент был добавлен, false если очередь заполнена
+     * @throws NullPointerException если переданный элемент null
+     */
+    public boolean offer(T elem) {
+        Objects.requireNonNull(elem);
+        lock.lock();
+        try {
+            if (list.size() == capacity) {
+                return false;
+            }
+            enqueue(elem);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Добавляет элемент в конец очереди, ожидая освобождения места не дольше указанного времени.
+     *
+     * @param elem    добавляемый элемент
+     * @param timeout максимальное время ожидания
+     * @param unit    единица измерения времени ожидания
+     * @return true если элемент был добавлен, false если время ожидания истекло
+     * @throws NullPointerException если переданный элемент null
+     * @throws InterruptedException если поток был прерван во время ожидания
+     */
+    public boolean offer(T elem, long timeout, TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(elem);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (list.size() == capacity) {
+                if (nanos <= 0L) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            enqueue(elem);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Извлекает первый элемент очереди, ожидая его появления при необходимости.
+     *
+     * @return первый элемент очереди
+     * @throws InterruptedException если поток был прерван во время ожидания
+     */
+    public T take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (list.size() == 0) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Извлекает первый элемент очереди, если очередь не пуста.
+     *
+     * @return первый элемент очереди или null если очередь пуста
+     */
+    public T poll() {
+        lock.lock();
+        try {
+            return list.size() == 0 ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Извлекает первый элемент очереди, ожидая его появления не дольше указанного времени.
+     *
+     * @param timeout максимальное время ожидания
+     * @param unit    единица измерения времени ожидания
+     * @return первый элемент очереди или null если время ожидания истекло
+     * @throws InterruptedException если поток был прерван во время ожидания
+     */
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (list.size() == 0) {
+                if (nanos <= 0L) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Извлекает из очереди не более maxElements элементов и добавляет их в конец переданного списка.
+     * Все элементы извлекаются за одно захватывание блокировки.
+     *
+     * @param target      список, в который добавляются извлеченные элементы
+     * @param maxElements максимальное количество извлекаемых элементов
+     * @return количество извлеченных элементов
+     * @throws NullPointerException     если переданный список null
+     * @throws IllegalArgumentException если максимальное количество извлекаемых элементов отрицательное
+     */
+    public int drainTo(EvvLinkedList<? super T> target, int maxElements) {
+        Objects.requireNonNull(target);
+        if (maxElements < 0) {
+            throw new IllegalArgumentException("Передано неверное количество элементов: " + maxElements);
+        }
+        lock.lock();
+        try {
+            int count = Math.min(maxElements, list.size());
+            for (int i = 0; i < count; i++) {
+                target.add(list.removeFirst());
+            }
+            if (count > 0) {
+                notFull.signalAll();
+            }
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Возвращает текущий размер очереди
+     *
+     * @return текущий размер очереди
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return list.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Возвращает количество элементов, которое можно добавить в очередь без ожидания
+     *
+     * @return количество свободных мест в очереди
+     */
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return capacity - list.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void enqueue(T elem) {
+        list.add(elem);
+        notEmpty.signal();
+    }
+
+    private T dequeue() {
+        T elem = list.removeFirst();
+        notFull.signal();
+        return elem;
+    }
+}
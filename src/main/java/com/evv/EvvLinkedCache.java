@@ -0,0 +1,545 @@
+package com.evv;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * Класс, реализующий ограниченный по размеру (или суммарному весу) кэш пар ключ-значение. <br>
+ * Порядок вытеснения хранится в списках {@link EvvLinkedList}, а хеш-таблица хранит ссылку ключа на ячейку списка,
+ * поэтому попадание в кэш, перемещение элемента и его вытеснение выполняются за O(1) без поиска по списку. <br>
+ * Поддерживаются политики вытеснения {@link EvictionPolicy}. <br>
+ * Ключи и значения null не допускаются. Класс не является потокобезопасным.
+ *
+ * @param <K> тип ключа
+ * @param <V> тип значения
+ */
+public class EvvLinkedCache<K, V> {
+
+    /**
+     * Политика вытеснения элементов кэша
+     */
+    public enum EvictionPolicy {
+
+        /**
+         * Вытесняется элемент, к которому дольше всего не обращались
+         */
+        LRU,
+
+        /**
+         * Вытесняется элемент с наименьшим количеством обращений, среди равных - самый давний
+         */
+        LFU,
+
+        /**
+         * Новые элементы попадают в небольшое LRU-окно, откуда допускаются в основную сегментированную
+         * LRU-область только если их оценка частоты обращений выше, чем у кандидата на вытеснение
+         */
+        W_TINY_LFU
+    }
+
+    /**
+     * Сегмент окна W-TinyLFU (для LRU и LFU не используется)
+     */
+    private static final int WINDOW = 0;
+
+    /**
+     * Испытательный сегмент основной области W-TinyLFU, для LRU - единственный список
+     */
+    private static final int PROBATION = 1;
+
+    /**
+     * Защищенный сегмент основной области W-TinyLFU
+     */
+    private static final int PROTECTED = 2;
+
+    /**
+     * Внутренний класс для хранения полей элемента кэша
+     */
+    private static class Entry<K, V> {
+
+        /**
+         * Ключ
+         */
+        private final K key;
+
+        /**
+         * Значение
+         */
+        private V value;
+
+        /**
+         * Вес элемента
+         */
+        private int weight;
+
+        /**
+         * Ячейка списка групп LFU, в группе которой находится элемент (только для LFU)
+         */
+        private EvvLinkedList.Node<FrequencyBucket<K, V>> bucket;
+
+        /**
+         * Сегмент, в списке которого находится элемент
+         */
+        private int segment;
+
+        /**
+         * Ячейка списка, в которой находится элемент
+         */
+        private EvvLinkedList.Node<Entry<K, V>> node;
+
+        public Entry(K key, V value, int weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * Внутренний класс группы элементов LFU с одинаковым количеством обращений
+     */
+    private static class FrequencyBucket<K, V> {
+
+        /**
+         * Количество обращений к элементам группы
+         */
+        private final int frequency;
+
+        /**
+         * Элементы группы от давних к недавним
+         */
+        private final EvvLinkedList<Entry<K, V>> entries = new EvvLinkedList<>();
+
+        public FrequencyBucket(int frequency) {
+            this.frequency = frequency;
+        }
+    }
+
+    /**
+     * Максимальный суммарный вес элементов кэша
+     */
+    private final long maximumWeight;
+
+    /**
+     * Политика вытеснения
+     */
+    private final EvictionPolicy policy;
+
+    /**
+     * Функция вычисления веса элемента
+     */
+    private final ToIntBiFunction<? super K, ? super V> weigher;
+
+    /**
+     * Соответствие ключей элементам кэша
+     */
+    private final Map<K, Entry<K, V>> entries = new HashMap<>();
+
+    /**
+     * Окно W-TinyLFU
+     */
+    private final EvvLinkedList<Entry<K, V>> window = new EvvLinkedList<>();
+
+    /**
+     * Испытательный сегмент W-TinyLFU или единственный список LRU
+     */
+    private final EvvLinkedList<Entry<K, V>> probation = new EvvLinkedList<>();
+
+    /**
+     * Защищенный сегмент W-TinyLFU
+     */
+    private final EvvLinkedList<Entry<K, V>> protectedSegment = new EvvLinkedList<>();
+
+    /**
+     * Непустые группы элементов LFU в порядке возрастания количества обращений: первая группа всегда
+     * содержит элементы с наименьшим количеством обращений
+     */
+    private final EvvLinkedList<FrequencyBucket<K, V>> frequencyBuckets = new EvvLinkedList<>();
+
+    /**
+     * Оценка частоты обращений W-TinyLFU
+     */
+    private final EvvFrequencySketch sketch;
+
+    /**
+     * Максимальный вес окна W-TinyLFU
+     */
+    private final long windowMaximum;
+
+    /**
+     * Максимальный вес защищенного сегмента W-TinyLFU
+     */
+    private final long protectedMaximum;
+
+    /**
+     * Суммарный вес элементов кэша
+     */
+    private long weightedSize;
+
+    /**
+     * Суммарный вес элементов окна W-TinyLFU
+     */
+    private long windowWeight;
+
+    /**
+     * Суммарный вес элементов защищенного сегмента W-TinyLFU
+     */
+    private long protectedWeight;
+
+    /**
+     * Количество попаданий
+     */
+    private long hitCount;
+
+    /**
+     * Количество промахов
+     */
+    private long missCount;
+
+    /**
+     * Количество вытесненных элементов
+     */
+    private long evictionCount;
+
+    /**
+     * Создает пустой LRU-кэш, ограниченный количеством элементов.
+     *
+     * @param maximumSize максимальное количество элементов
+     * @throws IllegalArgumentException если переданное максимальное количество элементов отрицательное
+     */
+    public EvvLinkedCache(long maximumSize) {
+        this(maximumSize, EvictionPolicy.LRU);
+    }
+
+    /**
+     * Создает пустой кэш, ограниченный количеством элементов, с заданной политикой вытеснения.
+     *
+     * @param maximumSize максимальное количество элементов
+     * @param policy      политика вытеснения
+     * @throws IllegalArgumentException если переданное максимальное количество элементов отрицательное
+     */
+    public EvvLinkedCache(long maximumSize, EvictionPolicy policy) {
+        this(maximumSize, policy, (k, v) -> 1);
+    }
+
+    /**
+     * Создает пустой кэш, ограниченный суммарным весом элементов, с заданной политикой вытеснения.
+     *
+     * @param maximumWeight максимальный суммарный вес элементов
+     * @param policy        политика вытеснения
+     * @param weigher       функция вычисления веса элемента, должна возвращать неотрицательное значение
+     * @throws IllegalArgumentException если переданный максимальный суммарный вес отрицательный
+     */
+    public EvvLinkedCache(long maximumWeight, EvictionPolicy policy, ToIntBiFunction<? super K, ? super V> weigher) {
+        if (maximumWeight < 0) {
+            throw new IllegalArgumentException("Передан неверный максимальный вес кэша: " + maximumWeight);
+        }
+        this.maximumWeight = maximumWeight;
+        this.policy = Objects.requireNonNull(policy);
+        this.weigher = Objects.requireNonNull(weigher);
+        if (policy == EvictionPolicy.W_TINY_LFU) {
+            this.sketch = new EvvFrequencySketch(maximumWeight);
+            this.windowMaximum = Math.max(1, maximumWeight / 100);
+            this.protectedMaximum = (maximumWeight - windowMaximum) * 8 / 10;
+        } else {
+            this.sketch = null;
+            this.windowMaximum = 0;
+            this.protectedMaximum = 0;
+        }
+    }
+
+    /**
+     * Возвращает значение, соответствующее ключу, и отмечает обращение к элементу.
+     *
+     * @param key ключ
+     * @return значение или null если ключ отсутствует в кэше
+     * @throws NullPointerException если переданный ключ null
+     */
+    public V get(K key) {
+        Objects.requireNonNull(key);
+        Entry<K, V> entry = entries.get(key);
+        if (entry == null) {
+            missCount++;
+            if (sketch != null) {
+                sketch.increment(key.hashCode());
+            }
+            return null;
+        }
+        hitCount++;
+        onAccess(entry);
+        return entry.value;
+    }
+
+    /**
+     * Помещает значение в кэш, заменяя значение, ранее соответствовавшее ключу.
+     * При превышении максимального веса вытесняются элементы согласно политике вытеснения.
+     *
+     * @param key   ключ
+     * @param value значение
+     * @return замещенное значение или null если ключ отсутствовал в кэше
+     * @throws NullPointerException     если переданный ключ или значение null
+     * @throws IllegalArgumentException если вычисленный вес элемента отрицательный
+     */
+    public V put(K key, V value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        int weight = weigher.applyAsInt(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Вычислен неверный вес элемента: " + weight);
+        }
+
+        Entry<K, V> entry = entries.get(key);
+        V oldValue = null;
+        if (entry != null) {
+            oldValue = entry.value;
+            entry.value = value;
+            changeWeight(entry, weight - entry.weight);
+            onAccess(entry);
+        } else {
+            entry = new Entry<>(key, value, weight);
+            entries.put(key, entry);
+            weightedSize += weight;
+            if (policy == EvictionPolicy.LFU) {
+                // вытесняем до добавления, иначе новый элемент с одним обращением сам окажется жертвой
+                evictLfu();
+            }
+            link(entry);
+        }
+        evict();
+        return oldValue;
+    }
+
+    /**
+     * Удаляет элемент, соответствующий ключу.
+     *
+     * @param key ключ
+     * @return удаленное значение или null если ключ отсутствовал в кэше
+     * @throws NullPointerException если переданный ключ null
+     */
+    public V remove(K key) {
+        Objects.requireNonNull(key);
+        Entry<K, V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        removeEntry(entry);
+        return entry.value;
+    }
+
+    /**
+     * Проверяет наличие ключа в кэше. Обращение к элементу не отмечается.
+     *
+     * @param key ключ
+     * @return true если ключ присутствует в кэше
+     */
+    public boolean containsKey(K key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * Возвращает количество элементов кэша
+     *
+     * @return количество элементов кэша
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Возвращает суммарный вес элементов кэша
+     *
+     * @return суммарный вес элементов кэша
+     */
+    public long weightedSize() {
+        return weightedSize;
+    }
+
+    /**
+     * Возвращает количество попаданий
+     *
+     * @return количество попаданий
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Возвращает количество промахов
+     *
+     * @return количество промахов
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Возвращает количество вытесненных элементов. Элементы, удаленные через {@link #remove}, не учитываются.
+     *
+     * @return количество вытесненных элементов
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    private void link(Entry<K, V> entry) {
+        switch (policy) {
+            case LRU:
+                entry.segment = PROBATION;
+                entry.node = probation.linkLast(entry);
+                break;
+            case LFU:
+                EvvLinkedList.Node<FrequencyBucket<K, V>> first = frequencyBuckets.firstNode();
+                entry.bucket = (first != null && first.getValue().frequency == 1) ? first : linkBucket(1, first);
+                entry.node = entry.bucket.getValue().entries.linkLast(entry);
+                break;
+            default:
+                sketch.increment(entry.key.hashCode());
+                entry.segment = WINDOW;
+                entry.node = window.linkLast(entry);
+                windowWeight += entry.weight;
+        }
+    }
+
+    private void onAccess(Entry<K, V> entry) {
+        switch (policy) {
+            case LRU:
+                probation.moveToLast(entry.node);
+                break;
+            case LFU:
+                EvvLinkedList.Node<FrequencyBucket<K, V>> oldBucket = entry.bucket;
+                int frequency = oldBucket.getValue().frequency + 1;
+                EvvLinkedList.Node<FrequencyBucket<K, V>> next = oldBucket.getNext();
+                entry.bucket = (next != null && next.getValue().frequency == frequency)
+                        ? next
+                        : linkBucket(frequency, next);
+                unlinkFromBucket(oldBucket, entry.node);
+                entry.node = entry.bucket.getValue().entries.linkLast(entry);
+                break;
+            default:
+                sketch.increment(entry.key.hashCode());
+                if (entry.segment == WINDOW) {
+                    window.moveToLast(entry.node);
+                } else if (entry.segment == PROTECTED) {
+                    protectedSegment.moveToLast(entry.node);
+                } else { // при повторном обращении элемент испытательного сегмента переводится в защищенный
+                    probation.unlink(entry.node);
+                    entry.segment = PROTECTED;
+                    entry.node = protectedSegment.linkLast(entry);
+                    protectedWeight += entry.weight;
+                    demoteProtected();
+                }
+        }
+    }
+
+    private void evict() {
+        if (policy == EvictionPolicy.W_TINY_LFU) {
+            evictTinyLfu();
+            return;
+        }
+        if (policy == EvictionPolicy.LFU) {
+            evictLfu();
+            return;
+        }
+        while (weightedSize > maximumWeight) {
+            removeEntry(probation.firstNode().getValue());
+            evictionCount++;
+        }
+    }
+
+    private void evictLfu() {
+        while (weightedSize > maximumWeight && frequencyBuckets.size() > 0) {
+            removeEntry(frequencyBuckets.firstNode().getValue().entries.firstNode().getValue());
+            evictionCount++;
+        }
+    }
+
+    private void evictTinyLfu() {
+        while (windowWeight > windowMaximum) { // вытесненные из окна элементы становятся кандидатами основной области
+            Entry<K, V> candidate = window.firstNode().getValue();
+            window.unlink(candidate.node);
+            windowWeight -= candidate.weight;
+            candidate.segment = PROBATION;
+            candidate.node = probation.linkLast(candidate);
+        }
+        while (weightedSize > maximumWeight) {
+            Entry<K, V> victim;
+            if (probation.size() >= 2) { // кандидат из окна (хвост) соревнуется с жертвой (голова)
+                Entry<K, V> head = probation.firstNode().getValue();
+                Entry<K, V> candidate = probation.lastNode().getValue();
+                victim = sketch.frequency(candidate.key.hashCode()) > sketch.frequency(head.key.hashCode())
+                        ? head
+                        : candidate;
+            } else if (probation.size() == 1) {
+                victim = probation.firstNode().getValue();
+            } else if (protectedSegment.size() > 0) {
+                victim = protectedSegment.firstNode().getValue();
+            } else {
+                victim = window.firstNode().getValue();
+            }
+            removeEntry(victim);
+            evictionCount++;
+        }
+    }
+
+    private void demoteProtected() {
+        while (protectedWeight > protectedMaximum && protectedSegment.size() > 0) {
+            Entry<K, V> demoted = protectedSegment.firstNode().getValue();
+            protectedSegment.unlink(demoted.node);
+            protectedWeight -= demoted.weight;
+            demoted.segment = PROBATION;
+            demoted.node = probation.linkLast(demoted);
+        }
+    }
+
+    private void removeEntry(Entry<K, V> entry) {
+        entries.remove(entry.key);
+        weightedSize -= entry.weight;
+        if (policy == EvictionPolicy.LFU) {
+            unlinkFromBucket(entry.bucket, entry.node);
+            entry.bucket = null;
+        } else if (entry.segment == WINDOW) {
+            window.unlink(entry.node);
+            windowWeight -= entry.weight;
+        } else if (entry.segment == PROTECTED) {
+            protectedSegment.unlink(entry.node);
+            protectedWeight -= entry.weight;
+        } else {
+            probation.unlink(entry.node);
+        }
+        entry.node = null;
+    }
+
+    private void changeWeight(Entry<K, V> entry, int delta) {
+        entry.weight += delta;
+        weightedSize += delta;
+        if (policy == EvictionPolicy.W_TINY_LFU) {
+            if (entry.segment == WINDOW) {
+                windowWeight += delta;
+            } else if (entry.segment == PROTECTED) {
+                protectedWeight += delta;
+            }
+        }
+    }
+
+    /**
+     * Добавляет пустую группу LFU перед указанной ячейкой списка групп (в конец, если ячейка null)
+     */
+    private EvvLinkedList.Node<FrequencyBucket<K, V>> linkBucket(int frequency,
+                                                                EvvLinkedList.Node<FrequencyBucket<K, V>> succ) {
+        FrequencyBucket<K, V> bucket = new FrequencyBucket<>(frequency);
+        return succ == null ? frequencyBuckets.linkLast(bucket) : frequencyBuckets.linkBefore(bucket, succ);
+    }
+
+    /**
+     * Исключает элемент из группы LFU и удаляет группу, если она опустела
+     */
+    private void unlinkFromBucket(EvvLinkedList.Node<FrequencyBucket<K, V>> bucket,
+                                  EvvLinkedList.Node<Entry<K, V>> node) {
+        EvvLinkedList<Entry<K, V>> bucketEntries = bucket.getValue().entries;
+        bucketEntries.unlink(node);
+        if (bucketEntries.size() == 0) {
+            frequencyBuckets.unlink(bucket);
+        }
+    }
+}
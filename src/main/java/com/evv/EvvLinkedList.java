@@ -1,14 +1,32 @@
 package com.evv;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Класс, реализующий функциональность по хранению объектов параметризованного типа T. <br>
  * Внутренним источником данных служит связанный список. <br>
  * Допускается хранение неограниченного количества элементов null. <br>
- * Гарантируется сохранение порядка добавления элементов в список.
+ * Гарантируется сохранение порядка добавления элементов в список. <br>
+ * Для параллельной обработки список хранит разреженные опорные ссылки на каждую CHECKPOINT_STEP-ую ячейку.
+ * Они строятся при первой параллельной операции, поддерживаются при добавлении в конец и удалении последнего
+ * элемента, а при прочих структурных изменениях перестраиваются одним проходом при следующей параллельной операции.
  */
-public class EvvLinkedList<T> {
+public class EvvLinkedList<T> implements Iterable<T> {
+
+    /**
+     * Расстояние между опорными ячейками
+     */
+    static final int CHECKPOINT_STEP = 4096;
 
     /**
      * Размер списка
@@ -26,9 +44,27 @@ public class EvvLinkedList<T> {
     private Node<T> tail;
 
     /**
-     * Внутренний класс для хранения полей ячейки данных
+     * Счетчик структурных изменений списка, используется итераторами для обнаружения параллельных изменений
+     */
+    private int modCount = 0;
+
+    /**
+     * Опорные ячейки с индексами 0, CHECKPOINT_STEP, 2 * CHECKPOINT_STEP, ..., null если они не построены
+     * или устарели после структурного изменения
+     */
+    private EvvArrayList<Node<T>> checkpoints;
+
+    /**
+     * Кэш хешей блоков для сравнения списков, null если список еще не сравнивался
+     */
+    private EvvBlockHashCache blockHashes;
+
+    /**
+     * Внутренний класс для хранения полей ячейки данных. <br>
+     * Доступен в пределах пакета, чтобы классы на основе списка могли хранить ссылки на ячейки
+     * и удалять или перемещать их за O(1).
      */
-    private static class Node<T> {
+    static class Node<T> {
 
         /**
          * Элемент данных
@@ -50,6 +86,18 @@ public class EvvLinkedList<T> {
             this.prev = prev;
             this.next = next;
         }
+
+        T getValue() {
+            return value;
+        }
+
+        Node<T> getNext() {
+            return next;
+        }
+
+        Node<T> getPrev() {
+            return prev;
+        }
     }
 
     /**
@@ -65,16 +113,7 @@ public class EvvLinkedList<T> {
      * @return true в случае успешного добавления элемента
      */
     public boolean add(T elem) {
-        Node<T> node;
-        if (size == 0) {
-            node = new Node<>(elem, null, null);
-            head = node;
-        } else {
-            node = new Node<>(elem, tail, null);
-            tail.next = node;
-        }
-        tail = node;
-        size++;
+        linkLast(elem);
         return true;
     }
 
@@ -87,26 +126,28 @@ public class EvvLinkedList<T> {
     public boolean remove(T elem) {
         Node<T> nodeToRemove = findFistOccurrence(elem);
         if (nodeToRemove != null) {
-            if (size == 1) { // значит удаляем единственный элемент
-                head = null;
-                tail = null;
-            } else if (nodeToRemove == head) { // значит удаляем первый элемент
-                nodeToRemove.next.prev = null;
-                head = nodeToRemove.next;
-            } else if (nodeToRemove == tail) { // значит удаляем последний элемент
-                nodeToRemove.prev.next = null;
-                tail = nodeToRemove.prev;
-            } else { // значит удаляем элемент в середине
-                nodeToRemove.prev.next = nodeToRemove.next;
-                nodeToRemove.next.prev = nodeToRemove.prev;
-            }
-            size--;
+            unlink(nodeToRemove);
             return true;
         } else {
             return false;
         }
     }
 
+    /**
+     * Удаляет первый элемент списка и возвращает его.
+     *
+     * @return удаленный первый элемент списка
+     * @throws NoSuchElementException если список пуст
+     */
+    public T removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException("Список пуст");
+        }
+        Node<T> oldHead = head;
+        unlink(oldHead);
+        return oldHead.value;
+    }
+
     /**
      * Возвращает элемент, располагающийся в списке по указанному индексу.
      *
@@ -132,6 +173,9 @@ public class EvvLinkedList<T> {
         Node<T> node = getNodeByIndex(index);
         T oldElem = node.value;
         node.value = elem;
+        if (blockHashes != null) {
+            blockHashes.invalidate(index);
+        }
         return oldElem;
     }
 
@@ -156,6 +200,90 @@ public class EvvLinkedList<T> {
         return newList;
     }
 
+    /**
+     * Переносит все элементы переданного списка в конец списка за O(1), перецепляя ячейки без их копирования. <br>
+     * Переданный список становится пустым.
+     *
+     * @param other список, элементы которого переносятся
+     * @throws NullPointerException     если переданный список null
+     * @throws IllegalArgumentException если передан этот же список
+     */
+    public void appendAll(EvvLinkedList<T> other) {
+        checkOtherList(other);
+        if (other.size == 0) {
+            return;
+        }
+        if (size == 0) {
+            head = other.head;
+        } else {
+            tail.next = other.head;
+            other.head.prev = tail;
+        }
+        tail = other.tail;
+        size += other.size;
+        modCount++;
+        invalidatePositions();
+        other.detachAll();
+    }
+
+    /**
+     * Переносит все элементы переданного списка в начало списка за O(1), перецепляя ячейки без их копирования. <br>
+     * Переданный список становится пустым.
+     *
+     * @param other список, элементы которого переносятся
+     * @throws NullPointerException     если переданный список null
+     * @throws IllegalArgumentException если передан этот же список
+     */
+    public void prependAll(EvvLinkedList<T> other) {
+        checkOtherList(other);
+        if (other.size == 0) {
+            return;
+        }
+        if (size == 0) {
+            tail = other.tail;
+        } else {
+            head.prev = other.tail;
+            other.tail.next = head;
+        }
+        head = other.head;
+        size += other.size;
+        modCount++;
+        invalidatePositions();
+        other.detachAll();
+    }
+
+    /**
+     * Отделяет от списка элементы, начиная с указанного индекса, и возвращает их в виде нового списка. <br>
+     * Ячейки не копируются, требуется только один проход до указанного индекса.
+     *
+     * @param index индекс первого элемента отделяемой части
+     * @return новый список из отделенных элементов
+     * @throws IndexOutOfBoundsException если переданный индекс отрицательный или превосходит размер списка
+     */
+    public EvvLinkedList<T> splitAt(int index) {
+        Objects.checkIndex(index, size + 1);
+        EvvLinkedList<T> suffix = new EvvLinkedList<>();
+        if (index == size) {
+            return suffix;
+        }
+        Node<T> first = getNodeByIndex(index);
+        suffix.head = first;
+        suffix.tail = tail;
+        suffix.size = size - index;
+        if (first == head) {
+            head = null;
+            tail = null;
+        } else {
+            tail = first.prev;
+            tail.next = null;
+            first.prev = null;
+        }
+        size = index;
+        modCount++;
+        invalidatePositions();
+        return suffix;
+    }
+
     /**
      * Возвращает размер списка
      *
@@ -165,6 +293,365 @@ public class EvvLinkedList<T> {
         return size;
     }
 
+    /**
+     * Возвращает ленивое представление элементов списка для построения цепочки filter/map/skip/limit,
+     * выполняемой за один проход по ячейкам списка.
+     *
+     * @return представление элементов списка
+     * @see EvvListView
+     */
+    public EvvListView<T> view() {
+        return new EvvListView<>(action -> {
+            for (Node<T> node = head; node != null; node = node.next) {
+                if (!action.test(node.value)) {
+                    return;
+                }
+            }
+        }, this::size, true);
+    }
+
+    /**
+     * Возвращает индекс первого вхождения указанного элемента в список.
+     *
+     * @param elem искомый элемент
+     * @return индекс элемента или -1 если элемент не найден
+     */
+    public int indexOf(T elem) {
+        return indexOfInRange(elem, head, 0, size);
+    }
+
+    /**
+     * Возвращает индекс первого вхождения указанного элемента в список, просматривая участки между опорными
+     * ячейками параллельно. Просмотр участков за найденным вхождением прекращается.
+     *
+     * @param elem искомый элемент
+     * @return индекс элемента или -1 если элемент не найден
+     */
+    public int parallelIndexOf(T elem) {
+        EvvArrayList<Node<T>> nodes = checkpoints();
+        OptionalInt found = IntStream.range(0, nodes.size())
+                .parallel()
+                .map(k -> indexOfInRange(elem, nodes.get(k), k * CHECKPOINT_STEP,
+                        Math.min((k + 1) * CHECKPOINT_STEP, size)))
+                .filter(index -> index >= 0)
+                .findFirst();
+        return found.orElse(-1);
+    }
+
+    /**
+     * Вычисляет хеш-код списка, обрабатывая участки между опорными ячейками параллельно.
+     * Результат совпадает с {@link #hashCode()}.
+     *
+     * @return хеш-код списка
+     */
+    public int parallelHashCode() {
+        EvvArrayList<Node<T>> nodes = checkpoints();
+        int[] segmentHashes = IntStream.range(0, nodes.size())
+                .parallel()
+                .map(k -> hashOfRange(nodes.get(k), Math.min(CHECKPOINT_STEP, size - k * CHECKPOINT_STEP)))
+                .toArray();
+        // хеш участка длины L присоединяется к накопленному как result * 31^L + hash, как при последовательном проходе
+        int fullMultiplier = pow31(CHECKPOINT_STEP);
+        int result = 1;
+        for (int k = 0; k < segmentHashes.length; k++) {
+            int multiplier = (k < segmentHashes.length - 1) ? fullMultiplier : pow31(size - k * CHECKPOINT_STEP);
+            result = result * multiplier + segmentHashes[k];
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает последовательный поток элементов списка.
+     *
+     * @return поток элементов списка
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Возвращает параллельный поток элементов списка, который делится по опорным ячейкам на равные участки.
+     *
+     * @return параллельный поток элементов списка
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Возвращает разделитель элементов списка. Разделение выполняется по опорным ячейкам без прохода по списку,
+     * поэтому части получаются равными с точностью до CHECKPOINT_STEP. <br>
+     * При изменении списка во время обхода выбрасывается ConcurrentModificationException.
+     *
+     * @return разделитель элементов списка
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new CheckpointSpliterator(checkpoints(), head, 0, size);
+    }
+
+    /**
+     * Возвращает итератор по элементам списка от первого к последнему.
+     *
+     * @return итератор по элементам списка
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Cursor(0);
+    }
+
+    /**
+     * Возвращает двунаправленный курсор, установленный перед первым элементом списка. <br>
+     * Курсор хранит текущую ячейку, поэтому переходы, а также add, set и remove выполняются за O(1). <br>
+     * При изменении списка в обход курсора его методы выбрасывают ConcurrentModificationException.
+     *
+     * @return курсор по элементам списка
+     */
+    public ListIterator<T> listIterator() {
+        return new Cursor(0);
+    }
+
+    /**
+     * Возвращает двунаправленный курсор, установленный перед элементом с указанным индексом.
+     *
+     * @param index индекс элемента, который будет возвращен первым вызовом next()
+     * @return курсор по элементам списка
+     * @throws IndexOutOfBoundsException если переданный индекс отрицательный или превосходит размер списка
+     * @see #listIterator()
+     */
+    public ListIterator<T> listIterator(int index) {
+        Objects.checkIndex(index, size + 1);
+        return new Cursor(index);
+    }
+
+    /**
+     * Добавляет новую ячейку с элементом в конец списка.
+     *
+     * @param elem добавляемый элемент
+     * @return добавленная ячейка
+     */
+    Node<T> linkLast(T elem) {
+        Node<T> node;
+        if (size == 0) {
+            node = new Node<>(elem, null, null);
+            head = node;
+        } else {
+            node = new Node<>(elem, tail, null);
+            tail.next = node;
+        }
+        tail = node;
+        size++;
+        modCount++;
+        if (checkpoints != null && (size - 1) % CHECKPOINT_STEP == 0) {
+            checkpoints.add(node);
+        }
+        if (blockHashes != null) {
+            blockHashes.invalidate(size - 1);
+        }
+        return node;
+    }
+
+    /**
+     * Добавляет новую ячейку с элементом перед указанной ячейкой за O(1). Ячейка должна принадлежать этому списку.
+     *
+     * @param elem добавляемый элемент
+     * @param succ ячейка, перед которой добавляется элемент
+     * @return добавленная ячейка
+     */
+    Node<T> linkBefore(T elem, Node<T> succ) {
+        Node<T> pred = succ.prev;
+        Node<T> node = new Node<>(elem, pred, succ);
+        succ.prev = node;
+        if (pred == null) {
+            head = node;
+        } else {
+            pred.next = node;
+        }
+        size++;
+        modCount++;
+        invalidatePositions();
+        return node;
+    }
+
+    /**
+     * Исключает ячейку из списка за O(1). Ячейка должна принадлежать этому списку.
+     *
+     * @param nodeToRemove исключаемая ячейка
+     */
+    void unlink(Node<T> nodeToRemove) {
+        if (nodeToRemove != tail) { // индексы последующих ячеек сдвигаются
+            invalidatePositions();
+        } else {
+            if (checkpoints != null && (size - 1) % CHECKPOINT_STEP == 0) {
+                checkpoints.remove(checkpoints.size() - 1);
+            }
+            if (blockHashes != null) {
+                blockHashes.invalidate(size - 1);
+            }
+        }
+        if (size == 1) { // значит удаляем единственный элемент
+            head = null;
+            tail = null;
+        } else if (nodeToRemove == head) { // значит удаляем первый элемент
+            nodeToRemove.next.prev = null;
+            head = nodeToRemove.next;
+        } else if (nodeToRemove == tail) { // значит удаляем последний элемент
+            nodeToRemove.prev.next = null;
+            tail = nodeToRemove.prev;
+        } else { // значит удаляем элемент в середине
+            nodeToRemove.prev.next = nodeToRemove.next;
+            nodeToRemove.next.prev = nodeToRemove.prev;
+        }
+        nodeToRemove.prev = null;
+        nodeToRemove.next = null;
+        size--;
+        modCount++;
+    }
+
+    /**
+     * Перемещает ячейку в конец списка за O(1). Ячейка должна принадлежать этому списку.
+     *
+     * @param node перемещаемая ячейка
+     */
+    void moveToLast(Node<T> node) {
+        if (node == tail) {
+            return;
+        }
+        if (node == head) {
+            node.next.prev = null;
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+            node.next.prev = node.prev;
+        }
+        node.prev = tail;
+        node.next = null;
+        tail.next = node;
+        tail = node;
+        modCount++;
+        invalidatePositions();
+    }
+
+    /**
+     * Возвращает первую ячейку списка
+     *
+     * @return первая ячейка списка или null если список пуст
+     */
+    Node<T> firstNode() {
+        return head;
+    }
+
+    /**
+     * Возвращает последнюю ячейку списка
+     *
+     * @return последняя ячейка списка или null если список пуст
+     */
+    Node<T> lastNode() {
+        return tail;
+    }
+
+    private void checkOtherList(EvvLinkedList<T> other) {
+        Objects.requireNonNull(other);
+        if (other == this) {
+            throw new IllegalArgumentException("Нельзя перенести элементы списка в самого себя");
+        }
+    }
+
+    private void detachAll() {
+        head = null;
+        tail = null;
+        size = 0;
+        modCount++;
+        invalidatePositions();
+    }
+
+    /**
+     * Возвращает хеши блоков списка (см. {@link EvvBlockHashCache}), пересчитывая только измененные блоки.
+     * Ячейки неизмененных блоков проходятся без обращения к элементам. Длина массива может превышать
+     * количество блоков.
+     *
+     * @return хеши блоков
+     */
+    long[] blockHashes() {
+        if (blockHashes == null) {
+            blockHashes = new EvvBlockHashCache();
+        }
+        int blockCount = blockHashes.prepare(size);
+        Node<T> node = head;
+        for (int block = 0; block < blockCount; block++) {
+            int length = Math.min(EvvBlockHashCache.BLOCK_SIZE, size - block * EvvBlockHashCache.BLOCK_SIZE);
+            if (blockHashes.isValid(block)) {
+                for (int i = 0; i < length; i++) {
+                    node = node.next;
+                }
+            } else {
+                long hash = EvvBlockHashCache.seed();
+                for (int i = 0; i < length; i++) {
+                    hash = EvvBlockHashCache.combine(hash, node.value);
+                    node = node.next;
+                }
+                blockHashes.set(block, hash);
+            }
+        }
+        return blockHashes.hashes();
+    }
+
+    /**
+     * Сбрасывает опорные ячейки и хеши блоков после структурного изменения, сдвигающего индексы ячеек
+     */
+    private void invalidatePositions() {
+        checkpoints = null;
+        blockHashes = null;
+    }
+
+    /**
+     * Возвращает опорные ячейки, перестраивая их одним проходом, если они устарели
+     */
+    private EvvArrayList<Node<T>> checkpoints() {
+        if (checkpoints == null) {
+            EvvArrayList<Node<T>> nodes = new EvvArrayList<>((size + CHECKPOINT_STEP - 1) / CHECKPOINT_STEP);
+            Node<T> node = head;
+            for (int i = 0; i < size; i++) {
+                if (i % CHECKPOINT_STEP == 0) {
+                    nodes.add(node);
+                }
+                node = node.next;
+            }
+            checkpoints = nodes;
+        }
+        return checkpoints;
+    }
+
+    private int indexOfInRange(T elem, Node<T> from, int fromIndex, int toIndex) {
+        Node<T> node = from;
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (Objects.equals(node.value, elem)) {
+                return i;
+            }
+            node = node.next;
+        }
+        return -1;
+    }
+
+    private int hashOfRange(Node<T> from, int length) {
+        int result = 0;
+        Node<T> node = from;
+        for (int i = 0; i < length; i++) {
+            Object e = node.value;
+            result = 31 * result + (e == null ? 0 : e.hashCode());
+            node = node.next;
+        }
+        return result;
+    }
+
+    private static int pow31(int exponent) {
+        int result = 1; // переполнение не влияет на результат, т.к. hashCode вычисляется по модулю 2^32
+        for (int i = 0; i < exponent; i++) {
+            result *= 31;
+        }
+        return result;
+    }
+
     private Node<T> findFistOccurrence(T elem) {
         Node<T> curNode;
         if (size == 0) {
@@ -202,6 +689,221 @@ public class EvvLinkedList<T> {
         return curNode;
     }
 
+    /**
+     * Внутренний класс двунаправленного курсора по ячейкам списка
+     */
+    private class Cursor implements ListIterator<T> {
+
+        /**
+         * Ячейка, возвращенная последним вызовом next() или previous()
+         */
+        private Node<T> lastReturned;
+
+        /**
+         * Ячейка, которая будет возвращена следующим вызовом next(), null если курсор в конце списка
+         */
+        private Node<T> next;
+
+        /**
+         * Индекс ячейки next
+         */
+        private int nextIndex;
+
+        /**
+         * Ожидаемое значение счетчика структурных изменений списка
+         */
+        private int expectedModCount = modCount;
+
+        Cursor(int index) {
+            next = (index == size) ? null : getNodeByIndex(index);
+            nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = next;
+            next = next.next;
+            nextIndex++;
+            return lastReturned.value;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public T previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            next = (next == null) ? tail : next.prev;
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.value;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            Node<T> lastNext = lastReturned.next;
+            unlink(lastReturned);
+            if (next == lastReturned) { // значит перед удалением был вызван previous()
+                next = lastNext;
+            } else {
+                nextIndex--;
+            }
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(T elem) {
+            checkForComodification();
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            lastReturned.value = elem;
+            if (blockHashes != null) {
+                blockHashes.invalidate(lastReturned == next ? nextIndex : nextIndex - 1);
+            }
+        }
+
+        @Override
+        public void add(T elem) {
+            checkForComodification();
+            lastReturned = null;
+            if (next == null) {
+                linkLast(elem);
+            } else {
+                linkBefore(elem, next);
+            }
+            nextIndex++;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Внутренний класс разделителя, который делит диапазон индексов по ближайшей к середине опорной ячейке
+     */
+    private class CheckpointSpliterator implements Spliterator<T> {
+
+        /**
+         * Опорные ячейки на момент создания разделителя
+         */
+        private final EvvArrayList<Node<T>> nodes;
+
+        /**
+         * Ячейка, которая будет обработана следующей
+         */
+        private Node<T> current;
+
+        /**
+         * Индекс ячейки current
+         */
+        private int index;
+
+        /**
+         * Индекс, на котором заканчивается диапазон (не включительно)
+         */
+        private final int fence;
+
+        /**
+         * Ожидаемое значение счетчика структурных изменений списка
+         */
+        private final int expectedModCount = modCount;
+
+        CheckpointSpliterator(EvvArrayList<Node<T>> nodes, Node<T> current, int index, int fence) {
+            this.nodes = nodes;
+            this.current = current;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            if (index >= fence) {
+                return false;
+            }
+            checkForComodification();
+            T value = current.value;
+            current = current.next;
+            index++;
+            action.accept(value);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            for (; index < fence; index++) {
+                action.accept(current.value);
+                current = current.next;
+            }
+            checkForComodification();
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int mid = (index + fence) >>> 1;
+            int k = (mid + CHECKPOINT_STEP / 2) / CHECKPOINT_STEP; // опорная ячейка, ближайшая к середине
+            int splitIndex = k * CHECKPOINT_STEP;
+            if (splitIndex <= index || splitIndex >= fence) {
+                return null;
+            }
+            Spliterator<T> prefix = new CheckpointSpliterator(nodes, current, index, splitIndex);
+            current = nodes.get(k);
+            index = splitIndex;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public boolean equals(Object o) {
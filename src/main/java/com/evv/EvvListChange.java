@@ -0,0 +1,138 @@
+package com.evv;
+
+/**
+ * Класс, описывающий одно изменение списка {@link EvvArrayList}, записанное в журнал изменений. <br>
+ * Изменения возвращаются методом {@link EvvArrayList#changesSince(long)} в порядке возрастания версий, и
+ * последовательное применение их методом {@link #applyTo(EvvArrayList)} к копии списка предыдущей версии
+ * воспроизводит текущее содержимое списка.
+ *
+ * @param <T> тип элементов списка
+ */
+public class EvvListChange<T> {
+
+    /**
+     * Вид изменения
+     */
+    public enum Operation {
+
+        /**
+         * Вставка элемента value по индексу index
+         */
+        ADD,
+
+        /**
+         * Замена элемента по индексу index на value
+         */
+        SET,
+
+        /**
+         * Удаление count элементов, начиная с индекса index
+         */
+        REMOVE
+    }
+
+    /**
+     * Вид изменения
+     */
+    private final Operation operation;
+
+    /**
+     * Версия списка после изменения
+     */
+    private final long version;
+
+    /**
+     * Индекс, к которому относится изменение
+     */
+    private final int index;
+
+    /**
+     * Количество удаленных элементов для REMOVE, 1 для ADD и SET
+     */
+    private final int count;
+
+    /**
+     * Добавленный или новый элемент, null для REMOVE
+     */
+    private final T value;
+
+    EvvListChange(Operation operation, long version, int index, int count, T value) {
+        this.operation = operation;
+        this.version = version;
+        this.index = index;
+        this.count = count;
+        this.value = value;
+    }
+
+    /**
+     * Применяет изменение к списку.
+     *
+     * @param list список, содержимое которого соответствует версии, предшествующей изменению
+     * @throws IndexOutOfBoundsException если индекс изменения не соответствует размеру списка
+     */
+    public void applyTo(EvvArrayList<T> list) {
+        switch (operation) {
+            case ADD:
+                list.add(index, value);
+                break;
+            case SET:
+                list.set(index, value);
+                break;
+            case REMOVE:
+                list.removeRange(index, index + count);
+                break;
+            default:
+                throw new IllegalStateException("Неизвестный вид изменения: " + operation);
+        }
+    }
+
+    /**
+     * Возвращает вид изменения
+     *
+     * @return вид изменения
+     */
+    public Operation getOperation() {
+        return operation;
+    }
+
+    /**
+     * Возвращает версию списка после изменения
+     *
+     * @return версия списка после изменения
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Возвращает индекс, к которому относится изменение
+     *
+     * @return индекс, к которому относится изменение
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Возвращает количество элементов, затронутых изменением
+     *
+     * @return количество удаленных элементов для REMOVE, 1 для ADD и SET
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Возвращает элемент, добавленный или записанный изменением
+     *
+     * @return добавленный или новый элемент, null для REMOVE
+     */
+    public T getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return operation + "@" + version + "[" + index + ", " + count + "]=" + value;
+    }
+}
@@ -0,0 +1,383 @@
+package com.evv;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Класс, реализующий сравнение пар списков {@link EvvArrayList} и {@link EvvLinkedList}. <br>
+ * Списки делятся на блоки по {@link EvvBlockHashCache#BLOCK_SIZE} элементов, хеши которых кэшируются в самих
+ * списках и пересчитываются только для блоков, измененных с прошлого сравнения. Блоки с равными хешами
+ * пропускаются без обращения к элементам, поэтому сравнение почти совпадающих списков выполняется
+ * за O(n / BLOCK_SIZE) после первого вызова. <br>
+ * Хеш блока строится по hashCode элементов, поэтому {@link #diffRanges} не обнаруживает различие, при котором
+ * элементы в одинаковых позициях имеют равные hashCode (а также маловероятное совпадение 64-битных хешей блоков);
+ * {@link #editScript} сравнивает элементы методом equals и строит точную последовательность правок. <br>
+ * {@link #diffRanges} сравнивает элементы с равными индексами и возвращает диапазоны различающихся индексов,
+ * {@link #editScript} строит кратчайшую последовательность вставок и удалений алгоритмом Майерса.
+ */
+public final class EvvListDiff {
+
+    /**
+     * Наибольшее количество правок, которое ищет алгоритм Майерса; при большем различии
+     * {@link #editScript} заменяет различающуюся середину целиком
+     */
+    static final int MAX_EDIT_DISTANCE = 1024;
+
+    /**
+     * Диапазон индексов от from включительно до to не включительно
+     */
+    public static final class Range {
+
+        private final int from;
+
+        private final int to;
+
+        Range(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Возвращает начало диапазона
+         *
+         * @return начало диапазона включительно
+         */
+        public int getFrom() {
+            return from;
+        }
+
+        /**
+         * Возвращает конец диапазона
+         *
+         * @return конец диапазона не включительно
+         */
+        public int getTo() {
+            return to;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Range range = (Range) o;
+            return from == range.from && to == range.to;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * from + to;
+        }
+
+        @Override
+        public String toString() {
+            return "[" + from + ", " + to + ")";
+        }
+    }
+
+    /**
+     * Последовательный доступ к элементам списка по монотонно изменяющимся индексам
+     */
+    private interface Cursor<T> {
+
+        T elementAt(int index);
+    }
+
+    private EvvListDiff() {
+    }
+
+    /**
+     * Сравнивает элементы списков с равными индексами и возвращает диапазоны индексов, в которых элементы
+     * различаются. Если размеры списков различны, индексы от меньшего размера до большего входят в результат.
+     *
+     * @param first  первый список
+     * @param second второй список
+     * @param <T>    тип элементов
+     * @return новый список непересекающихся диапазонов в порядке возрастания индексов
+     */
+    public static <T> EvvArrayList<Range> diffRanges(EvvArrayList<T> first, EvvArrayList<T> second) {
+        return diffRanges(first.blockHashes(), first.size(), first::get,
+                second.blockHashes(), second.size(), second::get);
+    }
+
+    /**
+     * Сравнивает элементы связанных списков с равными индексами и возвращает диапазоны индексов, в которых
+     * элементы различаются. Ячейки пропускаемых блоков проходятся без обращения к элементам.
+     *
+     * @param first  первый список
+     * @param second второй список
+     * @param <T>    тип элементов
+     * @return новый список непересекающихся диапазонов в порядке возрастания индексов
+     * @see #diffRanges(EvvArrayList, EvvArrayList)
+     */
+    public static <T> EvvArrayList<Range> diffRanges(EvvLinkedList<T> first, EvvLinkedList<T> second) {
+        return diffRanges(first.blockHashes(), first.size(), cursor(first),
+                second.blockHashes(), second.size(), cursor(second));
+    }
+
+    /**
+     * Возвращает кратчайшую последовательность вставок и удалений, превращающую первый список во второй. <br>
+     * Общее начало и общий конец списков определяются поэлементно (хеши блоков лишь ограничивают поиск
+     * общего начала первым различающимся блоком), и только оставшаяся середина копируется и передается
+     * алгоритму Майерса (O((N + M) * D) по времени и O(D * D) по памяти, где N и M - размеры середины,
+     * а D - количество правок). Если D превышает
+     * {@link #MAX_EDIT_DISTANCE}, поиск прекращается и середина заменяется целиком: одно удаление всех ее
+     * элементов и вставки элементов второго списка, то есть последовательность остается верной,
+     * но перестает быть кратчайшей. <br>
+     * Правки возвращаются в виде {@link EvvListChange}, индексы которых относятся к списку после применения
+     * предыдущих правок, а версия - порядковый номер правки; последовательное применение правок к копии
+     * первого списка методом {@link EvvListChange#applyTo(EvvArrayList)} дает второй список.
+     *
+     * @param first  исходный список
+     * @param second целевой список
+     * @param <T>    тип элементов
+     * @return новый список правок
+     */
+    public static <T> EvvArrayList<EvvListChange<T>> editScript(EvvArrayList<T> first, EvvArrayList<T> second) {
+        int prefix = commonPrefix(first.blockHashes(), first.size(), first::get,
+                second.blockHashes(), second.size(), second::get);
+        int suffix = commonSuffix(first.size(), first::get, second.size(), second::get, prefix);
+        return editScript(copyRange(first::get, prefix, first.size() - suffix),
+                copyRange(second::get, prefix, second.size() - suffix), prefix);
+    }
+
+    /**
+     * Возвращает кратчайшую последовательность вставок и удалений, превращающую первый связанный список
+     * во второй.
+     *
+     * @param first  исходный список
+     * @param second целевой список
+     * @param <T>    тип элементов
+     * @return новый список правок
+     * @see #editScript(EvvArrayList, EvvArrayList)
+     */
+    public static <T> EvvArrayList<EvvListChange<T>> editScript(EvvLinkedList<T> first, EvvLinkedList<T> second) {
+        Cursor<T> firstCursor = cursor(first);
+        Cursor<T> secondCursor = cursor(second);
+        int prefix = commonPrefix(first.blockHashes(), first.size(), firstCursor,
+                second.blockHashes(), second.size(), secondCursor);
+        int suffix = commonSuffix(first.size(), reverseCursor(first), second.size(), reverseCursor(second), prefix);
+        // курсоры не продвинулись дальше prefix, поэтому копирование продолжает обход с этой позиции
+        return editScript(copyRange(firstCursor, prefix, first.size() - suffix),
+                copyRange(secondCursor, prefix, second.size() - suffix), prefix);
+    }
+
+    private static <T> EvvArrayList<Range> diffRanges(long[] firstHashes, int firstSize, Cursor<T> firstCursor,
+                                                      long[] secondHashes, int secondSize, Cursor<T> secondCursor) {
+        EvvArrayList<Range> ranges = new EvvArrayList<>();
+        int minSize = Math.min(firstSize, secondSize);
+        int fullBlocks = minSize / EvvBlockHashCache.BLOCK_SIZE; // блоки, полные в обоих списках
+        int rangeFrom = -1; // начало незакрытого диапазона различий
+        int index = 0;
+        while (index < minSize) {
+            int block = index / EvvBlockHashCache.BLOCK_SIZE;
+            if (block < fullBlocks && firstHashes[block] == secondHashes[block]) {
+                if (rangeFrom != -1) {
+                    ranges.add(new Range(rangeFrom, index));
+                    rangeFrom = -1;
+                }
+                index += EvvBlockHashCache.BLOCK_SIZE;
+                continue;
+            }
+            int blockEnd = Math.min((block + 1) * EvvBlockHashCache.BLOCK_SIZE, minSize);
+            for (; index < blockEnd; index++) {
+                boolean equal = Objects.equals(firstCursor.elementAt(index), secondCursor.elementAt(index));
+                if (!equal && rangeFrom == -1) {
+                    rangeFrom = index;
+                } else if (equal && rangeFrom != -1) {
+                    ranges.add(new Range(rangeFrom, index));
+                    rangeFrom = -1;
+                }
+            }
+        }
+        int maxSize = Math.max(firstSize, secondSize);
+        if (minSize < maxSize && rangeFrom == -1) {
+            rangeFrom = minSize;
+        }
+        if (rangeFrom != -1) {
+            ranges.add(new Range(rangeFrom, maxSize));
+        }
+        return ranges;
+    }
+
+    /**
+     * Возвращает длину общего начала списков. Блок с различающимися хешами обязательно содержит различие,
+     * поэтому сравнение ограничивается концом первого такого блока; совпадение хешей не гарантирует равенства
+     * элементов, поэтому элементы до этой границы сравниваются методом equals
+     */
+    private static <T> int commonPrefix(long[] firstHashes, int firstSize, Cursor<T> firstCursor,
+                                        long[] secondHashes, int secondSize, Cursor<T> secondCursor) {
+        int minSize = Math.min(firstSize, secondSize);
+        int fullBlocks = minSize / EvvBlockHashCache.BLOCK_SIZE;
+        int block = 0;
+        while (block < fullBlocks && firstHashes[block] == secondHashes[block]) {
+            block++;
+        }
+        int limit = Math.min((block + 1) * EvvBlockHashCache.BLOCK_SIZE, minSize);
+        int index = 0;
+        while (index < limit && Objects.equals(firstCursor.elementAt(index), secondCursor.elementAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Возвращает длину общего конца списков, не пересекающегося с общим началом длины prefix.
+     * Курсоры обходят списки от конца к началу
+     */
+    private static <T> int commonSuffix(int firstSize, Cursor<T> firstCursor, int secondSize, Cursor<T> secondCursor,
+                                        int prefix) {
+        int limit = Math.min(firstSize, secondSize) - prefix;
+        int suffix = 0;
+        while (suffix < limit && Objects.equals(firstCursor.elementAt(firstSize - 1 - suffix),
+                secondCursor.elementAt(secondSize - 1 - suffix))) {
+            suffix++;
+        }
+        return suffix;
+    }
+
+    /**
+     * Копирует элементы с индексами от from включительно до to не включительно в новый список
+     */
+    private static <T> EvvArrayList<T> copyRange(Cursor<T> cursor, int from, int to) {
+        EvvArrayList<T> copy = new EvvArrayList<>(Math.max(to - from, 1));
+        for (int i = from; i < to; i++) {
+            copy.add(cursor.elementAt(i));
+        }
+        return copy;
+    }
+
+    /**
+     * Строит правки для середин списков без общего начала и конца алгоритмом Майерса, смещая индексы правок
+     * на offset
+     */
+    private static <T> EvvArrayList<EvvListChange<T>> editScript(EvvArrayList<T> first, EvvArrayList<T> second,
+                                                                 int offset) {
+        int n = first.size();
+        int m = second.size();
+
+        // прямой проход: v[k + max] - наибольший x, достигнутый на диагонали k = x - y;
+        // перед каждым шагом d для обратного прохода сохраняется только используемая часть v для k от -d до d
+        int max = n + m;
+        int[] v = new int[2 * max + 2];
+        EvvArrayList<int[]> trace = new EvvArrayList<>();
+        int distance = -1;
+        for (int d = 0; d <= Math.min(max, MAX_EDIT_DISTANCE) && distance == -1; d++) {
+            trace.add(Arrays.copyOfRange(v, max - d, max + d + 1));
+            for (int k = -d; k <= d; k += 2) {
+                int x = (k == -d || (k != d && v[k - 1 + max] < v[k + 1 + max]))
+                        ? v[k + 1 + max]      // шаг вниз: вставка
+                        : v[k - 1 + max] + 1; // шаг вправо: удаление
+                int y = x - k;
+                while (x < n && y < m && Objects.equals(first.get(x), second.get(y))) {
+                    x++;
+                    y++;
+                }
+                v[k + max] = x;
+                if (x >= n && y >= m) {
+                    distance = d;
+                    break;
+                }
+            }
+        }
+        if (distance == -1) {
+            return replaceScript(second, n, m, offset);
+        }
+
+        // обратный проход: восстанавливаем шаги от конца к началу; шаг d начинается в точке (xs[d - 1], ys[d - 1])
+        boolean[] isDelete = new boolean[Math.max(distance, 0)];
+        int[] xs = new int[isDelete.length];
+        int[] ys = new int[isDelete.length];
+        int x = n;
+        int y = m;
+        for (int d = distance; d > 0; d--) {
+            int[] prev = trace.get(d); // prev[k + d] - значение v на диагонали k перед шагом d
+            int k = x - y;
+            int prevK = (k == -d || (k != d && prev[k - 1 + d] < prev[k + 1 + d])) ? k + 1 : k - 1;
+            int prevX = prev[prevK + d];
+            int prevY = prevX - prevK;
+            while (x > prevX && y > prevY) { // общая часть после шага
+                x--;
+                y--;
+            }
+            isDelete[d - 1] = x != prevX;
+            xs[d - 1] = prevX;
+            ys[d - 1] = prevY;
+            x = prevX;
+            y = prevY;
+        }
+
+        // перед шагом из точки (x, y) список с примененными правками состоит из second[0, y) и first[x, n),
+        // поэтому индекс правки равен y
+        EvvArrayList<EvvListChange<T>> script = new EvvArrayList<>();
+        for (int i = 0; i < isDelete.length; i++) {
+            if (isDelete[i]) {
+                int count = 1;
+                while (i + 1 < isDelete.length && isDelete[i + 1] && ys[i + 1] == ys[i]) { // удаления подряд
+                    i++;
+                    count++;
+                }
+                script.add(new EvvListChange<>(EvvListChange.Operation.REMOVE, script.size() + 1,
+                        offset + ys[i], count, null));
+            } else {
+                script.add(new EvvListChange<>(EvvListChange.Operation.ADD, script.size() + 1,
+                        offset + ys[i], 1, second.get(ys[i])));
+            }
+        }
+        return script;
+    }
+
+    /**
+     * Строит правки, заменяющие первые n элементов списка первыми m элементами second
+     */
+    private static <T> EvvArrayList<EvvListChange<T>> replaceScript(EvvArrayList<T> second, int n, int m,
+                                                                    int offset) {
+        EvvArrayList<EvvListChange<T>> script = new EvvArrayList<>(m + 1);
+        if (n > 0) {
+            script.add(new EvvListChange<>(EvvListChange.Operation.REMOVE, 1, offset, n, null));
+        }
+        for (int y = 0; y < m; y++) {
+            script.add(new EvvListChange<>(EvvListChange.Operation.ADD, script.size() + 1, offset + y, 1,
+                    second.get(y)));
+        }
+        return script;
+    }
+
+    /**
+     * Возвращает курсор, обходящий связанный список от конца к началу по невозрастающим индексам
+     */
+    private static <T> Cursor<T> reverseCursor(EvvLinkedList<T> list) {
+        return new Cursor<T>() {
+
+            private EvvLinkedList.Node<T> node = list.lastNode();
+
+            private int nodeIndex = list.size() - 1;
+
+            @Override
+            public T elementAt(int index) {
+                while (nodeIndex > index) {
+                    node = node.getPrev();
+                    nodeIndex--;
+                }
+                return node.getValue();
+            }
+        };
+    }
+
+    private static <T> Cursor<T> cursor(EvvLinkedList<T> list) {
+        return new Cursor<T>() {
+
+            private EvvLinkedList.Node<T> node = list.firstNode();
+
+            private int nodeIndex = 0;
+
+            @Override
+            public T elementAt(int index) {
+                while (nodeIndex < index) {
+                    node = node.getNext();
+                    nodeIndex++;
+                }
+                return node.getValue();
+            }
+        };
+    }
+}
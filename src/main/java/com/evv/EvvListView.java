@@ -0,0 +1,207 @@
+package com.evv;
+
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Класс, реализующий ленивое представление элементов списка в виде цепочки преобразований
+ * (filter, map, skip, limit). <br>
+ * Промежуточные операции не выполняют проход и не создают промежуточных списков: они только объединяют
+ * преобразования в одну функцию, которая применяется к каждому элементу за единственный проход по исходному
+ * списку при вызове завершающей операции (toArrayList, toLinkedList, forEach, count, anyMatch, reduce). <br>
+ * Проход прекращается досрочно, как только limit набрал нужное количество элементов или anyMatch нашел элемент. <br>
+ * Представление создается методами {@link EvvArrayList#view()} и {@link EvvLinkedList#view()} и может
+ * использоваться повторно: каждая завершающая операция выполняет новый проход по текущему содержимому списка.
+ *
+ * @param <T> тип элементов представления
+ */
+public class EvvListView<T> {
+
+    /**
+     * Источник элементов: передает элементы действию, пока оно возвращает true
+     */
+    interface Source<T> {
+
+        void forEachWhile(Predicate<? super T> action);
+    }
+
+    /**
+     * Источник элементов с учетом всех преобразований
+     */
+    private final Source<T> source;
+
+    /**
+     * Верхняя граница количества элементов представления, вычисляется по текущему размеру списка
+     */
+    private final IntSupplier maxSize;
+
+    /**
+     * true если количество элементов представления точно равно maxSize (в цепочке нет filter)
+     */
+    private final boolean sizeExact;
+
+    EvvListView(Source<T> source, IntSupplier maxSize, boolean sizeExact) {
+        this.source = source;
+        this.maxSize = maxSize;
+        this.sizeExact = sizeExact;
+    }
+
+    /**
+     * Оставляет в представлении только элементы, удовлетворяющие условию.
+     *
+     * @param predicate условие
+     * @return новое представление
+     */
+    public EvvListView<T> filter(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        return new EvvListView<>(action -> source.forEachWhile(elem -> !predicate.test(elem) || action.test(elem)),
+                maxSize, false);
+    }
+
+    /**
+     * Преобразует каждый элемент представления.
+     *
+     * @param mapper функция преобразования
+     * @param <R>    тип элементов нового представления
+     * @return новое представление
+     */
+    public <R> EvvListView<R> map(Function<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        return new EvvListView<>(action -> source.forEachWhile(elem -> action.test(mapper.apply(elem))),
+                maxSize, sizeExact);
+    }
+
+    /**
+     * Пропускает первые n элементов представления.
+     *
+     * @param n количество пропускаемых элементов
+     * @return новое представление
+     * @throws IllegalArgumentException если переданное количество отрицательное
+     */
+    public EvvListView<T> skip(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Передано неверное количество элементов: " + n);
+        }
+        return new EvvListView<>(action -> {
+            int[] skipped = {0};
+            source.forEachWhile(elem -> {
+                if (skipped[0] < n) {
+                    skipped[0]++;
+                    return true;
+                }
+                return action.test(elem);
+            });
+        }, () -> Math.max(maxSize.getAsInt() - n, 0), sizeExact);
+    }
+
+    /**
+     * Ограничивает представление первыми n элементами. Проход по списку прекращается после n-го элемента.
+     *
+     * @param n максимальное количество элементов
+     * @return новое представление
+     * @throws IllegalArgumentException если переданное количество отрицательное
+     */
+    public EvvListView<T> limit(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Передано неверное количество элементов: " + n);
+        }
+        return new EvvListView<>(action -> {
+            if (n == 0) {
+                return;
+            }
+            int[] taken = {0};
+            source.forEachWhile(elem -> action.test(elem) && ++taken[0] < n);
+        }, () -> Math.min(maxSize.getAsInt(), n), sizeExact);
+    }
+
+    /**
+     * Выполняет проход и собирает элементы в новый список. Если количество элементов известно заранее
+     * (в цепочке нет filter), массив списка создается сразу нужного размера.
+     *
+     * @return новый список
+     */
+    public EvvArrayList<T> toArrayList() {
+        EvvArrayList<T> result = sizeExact ? new EvvArrayList<>(maxSize.getAsInt()) : new EvvArrayList<>();
+        source.forEachWhile(result::add);
+        return result;
+    }
+
+    /**
+     * Выполняет проход и собирает элементы в новый связанный список.
+     *
+     * @return новый связанный список
+     */
+    public EvvLinkedList<T> toLinkedList() {
+        EvvLinkedList<T> result = new EvvLinkedList<>();
+        source.forEachWhile(result::add);
+        return result;
+    }
+
+    /**
+     * Выполняет проход и передает каждый элемент действию.
+     *
+     * @param action действие
+     */
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        source.forEachWhile(elem -> {
+            action.accept(elem);
+            return true;
+        });
+    }
+
+    /**
+     * Выполняет проход и возвращает количество элементов.
+     *
+     * @return количество элементов
+     */
+    public int count() {
+        int[] count = {0};
+        source.forEachWhile(elem -> {
+            count[0]++;
+            return true;
+        });
+        return count[0];
+    }
+
+    /**
+     * Проверяет, есть ли элемент, удовлетворяющий условию. Проход прекращается на первом таком элементе.
+     *
+     * @param predicate условие
+     * @return true если такой элемент найден
+     */
+    public boolean anyMatch(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        boolean[] found = {false};
+        source.forEachWhile(elem -> {
+            found[0] = predicate.test(elem);
+            return !found[0];
+        });
+        return found[0];
+    }
+
+    /**
+     * Выполняет проход и сворачивает элементы бинарной операцией.
+     *
+     * @param identity   начальное значение
+     * @param accumulator бинарная операция
+     * @return результат свертки или identity если элементов нет
+     */
+    public T reduce(T identity, BinaryOperator<T> accumulator) {
+        Objects.requireNonNull(accumulator);
+        Object[] result = {identity};
+        source.forEachWhile(elem -> {
+            @SuppressWarnings("unchecked") // в массиве хранится только значение типа T
+            T acc = (T) result[0];
+            result[0] = accumulator.apply(acc, elem);
+            return true;
+        });
+        @SuppressWarnings("unchecked") // в массиве хранится только значение типа T
+        T reduced = (T) result[0];
+        return reduced;
+    }
+}
@@ -0,0 +1,320 @@
+package com.evv;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Класс, реализующий хеш-таблицу с ключами и значениями типа long. <br>
+ * Используется открытая адресация с линейным пробированием: ключи и значения хранятся в двух параллельных
+ * массивах примитивов, размер которых - степень двойки, поэтому ни пары, ни ключи, ни значения не упаковываются
+ * в объекты. <br>
+ * Удаление выполняется обратным сдвигом последующих элементов цепочки, без пометок удаленных ячеек. <br>
+ * Для отсутствующего ключа методы get, put и remove возвращают 0. Класс не является потокобезопасным.
+ */
+public class EvvLongLongMap {
+
+    /**
+     * Размер таблицы по умолчанию
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Максимальная доля занятых ячеек таблицы, при превышении которой таблица увеличивается вдвое
+     */
+    private static final float LOAD_FACTOR = 0.5f;
+
+    /**
+     * Значение ключа, обозначающее свободную ячейку. Пара с таким ключом хранится отдельно
+     */
+    private static final long FREE_KEY = 0L;
+
+    /**
+     * Значение, возвращаемое для отсутствующего ключа
+     */
+    private static final long NO_VALUE = 0L;
+
+    /**
+     * Функция обработки пар ключ-значение
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+
+        void accept(long key, long value);
+    }
+
+    /**
+     * Ключи таблицы
+     */
+    private long[] keys;
+
+    /**
+     * Значения таблицы
+     */
+    private long[] values;
+
+    /**
+     * Маска индекса ячейки (размер таблицы минус один)
+     */
+    private int mask;
+
+    /**
+     * Количество пар, при достижении которого таблица увеличивается
+     */
+    private int threshold;
+
+    /**
+     * Количество пар в таблице без учета пары с ключом FREE_KEY
+     */
+    private int tableSize = 0;
+
+    /**
+     * true если есть пара с ключом FREE_KEY
+     */
+    private boolean hasFreeKey = false;
+
+    /**
+     * Значение пары с ключом FREE_KEY
+     */
+    private long freeKeyValue = NO_VALUE;
+
+    /**
+     * Создает пустую таблицу с размером по умолчанию.
+     */
+    public EvvLongLongMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создает пустую таблицу, в которую можно поместить заданное количество пар без увеличения.
+     *
+     * @param expectedSize ожидаемое количество пар
+     * @throws IllegalArgumentException если переданное количество отрицательное
+     */
+    public EvvLongLongMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Передан неверный размер таблицы: " + expectedSize);
+        }
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * Возвращает значение, соответствующее ключу.
+     *
+     * @param key ключ
+     * @return значение или 0 если ключ отсутствует
+     */
+    public long get(long key) {
+        return getOrDefault(key, NO_VALUE);
+    }
+
+    /**
+     * Возвращает значение, соответствующее ключу, или значение по умолчанию.
+     *
+     * @param key          ключ
+     * @param defaultValue значение, возвращаемое для отсутствующего ключа
+     * @return значение или defaultValue если ключ отсутствует
+     */
+    public long getOrDefault(long key, long defaultValue) {
+        if (key == FREE_KEY) {
+            return hasFreeKey ? freeKeyValue : defaultValue;
+        }
+        int idx = findSlot(key);
+        return keys[idx] == FREE_KEY ? defaultValue : values[idx];
+    }
+
+    /**
+     * Проверяет наличие ключа в таблице.
+     *
+     * @param key ключ
+     * @return true если ключ присутствует
+     */
+    public boolean containsKey(long key) {
+        if (key == FREE_KEY) {
+            return hasFreeKey;
+        }
+        return keys[findSlot(key)] != FREE_KEY;
+    }
+
+    /**
+     * Помещает пару в таблицу, заменяя значение, ранее соответствовавшее ключу.
+     *
+     * @param key   ключ
+     * @param value значение
+     * @return замещенное значение или 0 если ключ отсутствовал
+     */
+    public long put(long key, long value) {
+        if (key == FREE_KEY) {
+            long oldValue = freeKeyValue;
+            hasFreeKey = true;
+            freeKeyValue = value;
+            return oldValue;
+        }
+        int idx = findSlot(key);
+        if (keys[idx] != FREE_KEY) {
+            long oldValue = values[idx];
+            values[idx] = value;
+            return oldValue;
+        }
+        keys[idx] = key;
+        values[idx] = value;
+        if (++tableSize > threshold) {
+            rehash(keys.length * 2);
+        }
+        return NO_VALUE;
+    }
+
+    /**
+     * Прибавляет к значению, соответствующему ключу, указанную величину. Отсутствующий ключ добавляется
+     * со значением, равным этой величине.
+     *
+     * @param key   ключ
+     * @param delta прибавляемая величина
+     * @return новое значение
+     */
+    public long addTo(long key, long delta) {
+        if (key == FREE_KEY) {
+            hasFreeKey = true;
+            freeKeyValue += delta;
+            return freeKeyValue;
+        }
+        int idx = findSlot(key);
+        if (keys[idx] != FREE_KEY) {
+            values[idx] += delta;
+            return values[idx];
+        }
+        keys[idx] = key;
+        values[idx] = delta;
+        if (++tableSize > threshold) {
+            rehash(keys.length * 2);
+        }
+        return delta;
+    }
+
+    /**
+     * Удаляет пару с указанным ключом.
+     *
+     * @param key ключ
+     * @return удаленное значение или 0 если ключ отсутствовал
+     */
+    public long remove(long key) {
+        if (key == FREE_KEY) {
+            long oldValue = freeKeyValue;
+            hasFreeKey = false;
+            freeKeyValue = NO_VALUE;
+            return oldValue;
+        }
+        int idx = findSlot(key);
+        if (keys[idx] == FREE_KEY) {
+            return NO_VALUE;
+        }
+        long oldValue = values[idx];
+        shiftKeys(idx);
+        tableSize--;
+        return oldValue;
+    }
+
+    /**
+     * Возвращает количество пар в таблице
+     *
+     * @return количество пар
+     */
+    public int size() {
+        return hasFreeKey ? tableSize + 1 : tableSize;
+    }
+
+    /**
+     * Удаляет все пары из таблицы. Размер таблицы сохраняется.
+     */
+    public void clear() {
+        Arrays.fill(keys, FREE_KEY);
+        Arrays.fill(values, NO_VALUE);
+        tableSize = 0;
+        hasFreeKey = false;
+        freeKeyValue = NO_VALUE;
+    }
+
+    /**
+     * Передает каждую пару таблицы функции в порядке ячеек таблицы.
+     *
+     * @param action функция обработки пар
+     */
+    public void forEach(EntryConsumer action) {
+        Objects.requireNonNull(action);
+        if (hasFreeKey) {
+            action.accept(FREE_KEY, freeKeyValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE_KEY) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * Возвращает индекс ячейки с ключом или первой свободной ячейки на его цепочке
+     */
+    private int findSlot(long key) {
+        int idx = mix(key) & mask;
+        while (keys[idx] != FREE_KEY && keys[idx] != key) {
+            idx = (idx + 1) & mask;
+        }
+        return idx;
+    }
+
+    /**
+     * Освобождает ячейку, сдвигая на ее место последующие элементы цепочки, которые могут в ней находиться
+     */
+    private void shiftKeys(int free) {
+        int idx = free;
+        while (true) {
+            idx = (idx + 1) & mask;
+            long key = keys[idx];
+            if (key == FREE_KEY) {
+                break;
+            }
+            int ideal = mix(key) & mask;
+            // элемент переносится, если его исходная ячейка не лежит между освобожденной и текущей
+            if (((idx - ideal) & mask) >= ((idx - free) & mask)) {
+                keys[free] = key;
+                values[free] = values[idx];
+                free = idx;
+            }
+        }
+        keys[free] = FREE_KEY;
+        values[free] = NO_VALUE;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != FREE_KEY) {
+                int idx = findSlot(key);
+                keys[idx] = key;
+                values[idx] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        long needed = Math.max(DEFAULT_CAPACITY, (long) Math.ceil(expectedSize / LOAD_FACTOR) + 1);
+        if (needed > (1 << 30)) {
+            throw new IllegalArgumentException("Слишком большой размер таблицы: " + expectedSize);
+        }
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L; // мультипликативное хеширование Фибоначчи
+        return (int) (h ^ (h >>> 32));
+    }
+}
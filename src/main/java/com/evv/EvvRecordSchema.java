@@ -0,0 +1,141 @@
+package com.evv;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Класс, описывающий схему записи для {@link EvvColumnarList}: упорядоченный набор именованных полей
+ * примитивных типов. <br>
+ * Поля добавляются цепочкой вызовов, номер поля (столбца) соответствует порядку добавления. <br>
+ * Список копирует схему при создании, поэтому последующие изменения схемы на него не влияют.
+ */
+public class EvvRecordSchema {
+
+    /**
+     * Тип поля записи
+     */
+    public enum ColumnType {
+        INT, LONG, DOUBLE
+    }
+
+    /**
+     * Имена полей
+     */
+    private String[] names = new String[0];
+
+    /**
+     * Типы полей
+     */
+    private ColumnType[] types = new ColumnType[0];
+
+    /**
+     * Создает пустую схему.
+     */
+    public EvvRecordSchema() {
+    }
+
+    /**
+     * Добавляет поле типа int.
+     *
+     * @param name имя поля
+     * @return эта схема
+     * @throws IllegalArgumentException если поле с таким именем уже есть
+     */
+    public EvvRecordSchema addInt(String name) {
+        return addColumn(name, ColumnType.INT);
+    }
+
+    /**
+     * Добавляет поле типа long.
+     *
+     * @param name имя поля
+     * @return эта схема
+     * @throws IllegalArgumentException если поле с таким именем уже есть
+     */
+    public EvvRecordSchema addLong(String name) {
+        return addColumn(name, ColumnType.LONG);
+    }
+
+    /**
+     * Добавляет поле типа double.
+     *
+     * @param name имя поля
+     * @return эта схема
+     * @throws IllegalArgumentException если поле с таким именем уже есть
+     */
+    public EvvRecordSchema addDouble(String name) {
+        return addColumn(name, ColumnType.DOUBLE);
+    }
+
+    /**
+     * Возвращает количество полей
+     *
+     * @return количество полей
+     */
+    public int columnCount() {
+        return names.length;
+    }
+
+    /**
+     * Возвращает номер поля по имени.
+     *
+     * @param name имя поля
+     * @return номер поля или -1 если поле не найдено
+     */
+    public int indexOf(String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает имя поля по номеру.
+     *
+     * @param column номер поля
+     * @return имя поля
+     * @throws IndexOutOfBoundsException если переданный номер поля отрицательный или превосходит количество полей
+     */
+    public String nameOf(int column) {
+        Objects.checkIndex(column, names.length);
+        return names[column];
+    }
+
+    /**
+     * Возвращает тип поля по номеру.
+     *
+     * @param column номер поля
+     * @return тип поля
+     * @throws IndexOutOfBoundsException если переданный номер поля отрицательный или превосходит количество полей
+     */
+    public ColumnType typeOf(int column) {
+        Objects.checkIndex(column, types.length);
+        return types[column];
+    }
+
+    /**
+     * Возвращает копию схемы
+     *
+     * @return копия схемы
+     */
+    EvvRecordSchema copy() {
+        EvvRecordSchema copy = new EvvRecordSchema();
+        copy.names = names.clone();
+        copy.types = types.clone();
+        return copy;
+    }
+
+    private EvvRecordSchema addColumn(String name, ColumnType type) {
+        Objects.requireNonNull(name);
+        if (indexOf(name) != -1) {
+            throw new IllegalArgumentException("Поле с таким именем уже есть: " + name);
+        }
+        names = Arrays.copyOf(names, names.length + 1);
+        types = Arrays.copyOf(types, types.length + 1);
+        names[names.length - 1] = name;
+        types[types.length - 1] = type;
+        return this;
+    }
+}
@@ -0,0 +1,273 @@
+package com.evv;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Класс, реализующий список объектов параметризованного типа T, удерживаемых через слабые или мягкие ссылки. <br>
+ * Внутренним источником данных служит список ссылок {@link EvvArrayList}. Элементы, собранные сборщиком мусора,
+ * отслеживаются через {@link ReferenceQueue} и не учитываются в размере списка, а их ячейки удаляются пакетно,
+ * одним проходом сжатия, когда их накапливается не менее четверти списка. <br>
+ * Индексы {@link #get(int)} относятся к ячейкам списка, а не к живым элементам: между сжатиями ячейки собранных
+ * элементов сохраняются, поэтому get может вернуть null, а количество ячеек {@link #slotCount()} может превышать
+ * количество живых элементов {@link #size()}. После сжатия индексы последующих элементов сдвигаются. <br>
+ * Хранение элементов null не допускается. Класс не является потокобезопасным.
+ */
+public class EvvReferenceList<T> implements Iterable<T> {
+
+    /**
+     * Вид ссылок, через которые удерживаются элементы
+     */
+    public enum ReferenceType {
+
+        /**
+         * Слабые ссылки: элемент собирается сразу, как только на него не остается сильных ссылок
+         */
+        WEAK,
+
+        /**
+         * Мягкие ссылки: элемент собирается только при нехватке памяти
+         */
+        SOFT
+    }
+
+    /**
+     * Интерфейс ссылки, позволяющий отметить ее ячейку как уже удаленную сжатием
+     */
+    private interface Entry {
+
+        boolean isRemoved();
+
+        void markRemoved();
+    }
+
+    /**
+     * Слабая ссылка на элемент
+     */
+    private static final class WeakEntry<T> extends WeakReference<T> implements Entry {
+
+        private boolean removed;
+
+        WeakEntry(T referent, ReferenceQueue<? super T> queue) {
+            super(referent, queue);
+        }
+
+        @Override
+        public boolean isRemoved() {
+            return removed;
+        }
+
+        @Override
+        public void markRemoved() {
+            removed = true;
+        }
+    }
+
+    /**
+     * Мягкая ссылка на элемент
+     */
+    private static final class SoftEntry<T> extends SoftReference<T> implements Entry {
+
+        private boolean removed;
+
+        SoftEntry(T referent, ReferenceQueue<? super T> queue) {
+            super(referent, queue);
+        }
+
+        @Override
+        public boolean isRemoved() {
+            return removed;
+        }
+
+        @Override
+        public void markRemoved() {
+            removed = true;
+        }
+    }
+
+    /**
+     * Список ссылок на элементы
+     */
+    private final EvvArrayList<Reference<T>> references = new EvvArrayList<>();
+
+    /**
+     * Очередь ссылок, элементы которых собраны сборщиком мусора
+     */
+    private final ReferenceQueue<T> queue = new ReferenceQueue<>();
+
+    /**
+     * Вид ссылок
+     */
+    private final ReferenceType referenceType;
+
+    /**
+     * Количество ячеек собранных элементов, ожидающих сжатия
+     */
+    private int staleCount = 0;
+
+    /**
+     * Создает пустой список со слабыми ссылками.
+     */
+    public EvvReferenceList() {
+        this(ReferenceType.WEAK);
+    }
+
+    /**
+     * Создает пустой список с заданным видом ссылок.
+     *
+     * @param referenceType вид ссылок
+     */
+    public EvvReferenceList(ReferenceType referenceType) {
+        this.referenceType = Objects.requireNonNull(referenceType);
+    }
+
+    /**
+     * Добавляет новый элемент в конец списка.
+     *
+     * @param elem добавляемый элемент
+     * @return true в случае успешного добавления элемента
+     * @throws NullPointerException если переданный элемент null
+     */
+    public boolean add(T elem) {
+        Objects.requireNonNull(elem);
+        expungeStaleEntries();
+        Reference<T> ref = referenceType == ReferenceType.WEAK
+                ? new WeakEntry<>(elem, queue)
+                : new SoftEntry<>(elem, queue);
+        return references.add(ref);
+    }
+
+    /**
+     * Удаляет первое вхождение указанного элемента из списка.
+     *
+     * @param elem элемент, подлежащий удалению
+     * @return true если элемент был найден и удален
+     * @throws NullPointerException если переданный элемент null
+     */
+    public boolean remove(T elem) {
+        Objects.requireNonNull(elem);
+        expungeStaleEntries();
+        for (int i = 0; i < references.size(); i++) {
+            Reference<T> ref = references.get(i);
+            if (elem.equals(ref.get())) { // ячейки собранных элементов (get() == null) не совпадают
+                ((Entry) ref).markRemoved();
+                references.remove(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Возвращает элемент, располагающийся в ячейке списка по указанному индексу. Для перебора ячеек используется
+     * {@link #slotCount()}, а не {@link #size()}.
+     *
+     * @param index индекс ячейки от 0 до slotCount() не включительно
+     * @return элемент или null если он уже собран сборщиком мусора
+     * @throws IndexOutOfBoundsException если переданный индекс отрицательный или превосходит количество ячеек списка
+     */
+    public T get(int index) {
+        return references.get(index).get();
+    }
+
+    /**
+     * Возвращает количество живых элементов списка. Элементы, собранные сборщиком мусора, но еще не попавшие
+     * в очередь ссылок, могут учитываться до следующего вызова.
+     *
+     * @return количество живых элементов
+     */
+    public int size() {
+        expungeStaleEntries();
+        return references.size() - staleCount;
+    }
+
+    /**
+     * Возвращает количество ячеек списка, включая ячейки собранных элементов, ожидающие сжатия.
+     * Является верхней границей индексов {@link #get(int)}.
+     *
+     * @return количество ячеек
+     */
+    public int slotCount() {
+        return references.size();
+    }
+
+    /**
+     * Удаляет ячейки всех собранных сборщиком мусора элементов за один проход.
+     */
+    public void compact() {
+        drainQueue();
+        references.removeIf(ref -> {
+            if (ref.get() == null) {
+                ((Entry) ref).markRemoved();
+                return true;
+            }
+            return false;
+        });
+        staleCount = 0;
+    }
+
+    /**
+     * Возвращает итератор по живым элементам списка. Собранные элементы пропускаются.
+     * Изменение списка во время обхода не допускается.
+     *
+     * @return итератор по живым элементам списка
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+
+            private int index = 0;
+
+            /**
+             * Следующий элемент, удерживаемый сильной ссылкой до его возврата
+             */
+            private T next = advance();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public T next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                T result = next;
+                next = advance();
+                return result;
+            }
+
+            private T advance() {
+                while (index < references.size()) {
+                    T elem = references.get(index++).get();
+                    if (elem != null) {
+                        return elem;
+                    }
+                }
+                return null;
+            }
+        };
+    }
+
+    private void expungeStaleEntries() {
+        drainQueue();
+        if (staleCount > 0 && staleCount * 4 >= references.size()) {
+            compact();
+        }
+    }
+
+    private void drainQueue() {
+        Reference<? extends T> ref;
+        while ((ref = queue.poll()) != null) {
+            if (!((Entry) ref).isRemoved()) { // ячейка могла быть уже удалена сжатием или методом remove
+                staleCount++;
+            }
+        }
+    }
+}
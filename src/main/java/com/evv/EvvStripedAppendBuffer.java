@@ -0,0 +1,269 @@
+package com.evv;
+
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Класс, реализующий промежуточный буфер для добавления элементов параметризованного типа T
+ * в общий список {@link EvvArrayList} из множества потоков (много производителей, один потребитель). <br>
+ * Добавляемые элементы накапливаются в полосах (stripes) - отдельных буферах со своей блокировкой,
+ * полоса выбирается по идентификатору потока. <br>
+ * Полоса сбрасывается в общий список целиком, одним увеличением массива и одним копированием, когда
+ * ее размер достигает заданного порога, а также периодически по таймеру и при вызове {@link #flush()}. <br>
+ * Порядок элементов сохраняется в пределах одного потока, но не между разными потоками. <br>
+ * Блокировки всегда захватываются в порядке: полоса, затем общий список.
+ */
+public class EvvStripedAppendBuffer<T> implements AutoCloseable {
+
+    /**
+     * Количество полос по умолчанию
+     */
+    private static final int DEFAULT_STRIPES = 8;
+
+    /**
+     * Порог сброса полосы по умолчанию
+     */
+    private static final int DEFAULT_FLUSH_SIZE = 256;
+
+    /**
+     * Общий список, в который сбрасываются элементы
+     */
+    private final EvvArrayList<T> backing;
+
+    /**
+     * Блокировка общего списка
+     */
+    private final ReentrantLock backingLock = new ReentrantLock();
+
+    /**
+     * Буферы полос
+     */
+    private final EvvArrayList<T>[] stripes;
+
+    /**
+     * Блокировки полос
+     */
+    private final ReentrantLock[] stripeLocks;
+
+    /**
+     * Порог количества элементов в полосе, по достижении которого полоса сбрасывается
+     */
+    private final int flushSize;
+
+    /**
+     * Планировщик периодического сброса, null если периодический сброс не используется
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Количество выполненных сбросов полос
+     */
+    private final AtomicLong flushCount = new AtomicLong();
+
+    /**
+     * Количество элементов, перенесенных в общий список
+     */
+    private final AtomicLong flushedElements = new AtomicLong();
+
+    /**
+     * Суммарная длительность сбросов в наносекундах
+     */
+    private final AtomicLong totalFlushNanos = new AtomicLong();
+
+    /**
+     * Максимальная длительность сброса в наносекундах
+     */
+    private final AtomicLong maxFlushNanos = new AtomicLong();
+
+    /**
+     * Создает буфер с количеством полос и порогом сброса по умолчанию, без периодического сброса.
+     *
+     * @param backing общий список, в который сбрасываются элементы
+     */
+    public EvvStripedAppendBuffer(EvvArrayList<T> backing) {
+        this(backing, DEFAULT_STRIPES, DEFAULT_FLUSH_SIZE, 0);
+    }
+
+    /**
+     * Создает буфер с заданными параметрами.
+     *
+     * @param backing             общий список, в который сбрасываются элементы
+     * @param stripeCount         количество полос
+     * @param flushSize           порог количества элементов в полосе, по достижении которого полоса сбрасывается
+     * @param flushIntervalMillis период сброса всех полос в миллисекундах, 0 - без периодического сброса
+     * @throws NullPointerException     если переданный список null
+     * @throws IllegalArgumentException если количество полос или порог сброса не положительные,
+     *                                  либо период сброса отрицательный
+     */
+    public EvvStripedAppendBuffer(EvvArrayList<T> backing, int stripeCount, int flushSize, long flushIntervalMillis) {
+        this.backing = Objects.requireNonNull(backing);
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("Передано неверное количество полос: " + stripeCount);
+        }
+        if (flushSize <= 0) {
+            throw new IllegalArgumentException("Передан неверный порог сброса: " + flushSize);
+        }
+        if (flushIntervalMillis < 0) {
+            throw new IllegalArgumentException("Передан неверный период сброса: " + flushIntervalMillis);
+        }
+        this.flushSize = flushSize;
+        @SuppressWarnings("unchecked") // Аннотировано для возможности создания массива параметризованного типа
+        EvvArrayList<T>[] tempStripes = (EvvArrayList<T>[]) new EvvArrayList<?>[stripeCount];
+        this.stripes = tempStripes;
+        this.stripeLocks = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new EvvArrayList<>(flushSize);
+            stripeLocks[i] = new ReentrantLock();
+        }
+        if (flushIntervalMillis > 0) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "evv-append-buffer-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Добавляет элемент в полосу текущего потока. Если полоса заполнена до порога, она сбрасывается в общий список.
+     *
+     * @param elem добавляемый элемент
+     */
+    public void add(T elem) {
+        int idx = stripeIndex();
+        ReentrantLock stripeLock = stripeLocks[idx];
+        stripeLock.lock();
+        try {
+            EvvArrayList<T> stripe = stripes[idx];
+            stripe.add(elem);
+            if (stripe.size() >= flushSize) {
+                flushStripe(stripe);
+            }
+        } finally {
+            stripeLock.unlock();
+        }
+    }
+
+    /**
+     * Сбрасывает все полосы в общий список.
+     */
+    public void flush() {
+        for (int i = 0; i < stripes.length; i++) {
+            ReentrantLock stripeLock = stripeLocks[i];
+            stripeLock.lock();
+            try {
+                flushStripe(stripes[i]);
+            } finally {
+                stripeLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Выполняет чтение общего списка под его блокировкой. Предварительный сброс полос не выполняется.
+     *
+     * @param reader функция чтения общего списка
+     * @param <R>    тип результата чтения
+     * @return результат функции чтения
+     */
+    public <R> R readBacking(Function<? super EvvArrayList<T>, ? extends R> reader) {
+        backingLock.lock();
+        try {
+            return reader.apply(backing);
+        } finally {
+            backingLock.unlock();
+        }
+    }
+
+    /**
+     * Возвращает количество выполненных сбросов непустых полос
+     *
+     * @return количество сбросов
+     */
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+
+    /**
+     * Возвращает количество элементов, перенесенных в общий список
+     *
+     * @return количество перенесенных элементов
+     */
+    public long getFlushedElements() {
+        return flushedElements.get();
+    }
+
+    /**
+     * Возвращает суммарную длительность сбросов, включая ожидание блокировки общего списка
+     *
+     * @return суммарная длительность сбросов в наносекундах
+     */
+    public long getTotalFlushNanos() {
+        return totalFlushNanos.get();
+    }
+
+    /**
+     * Возвращает максимальную длительность одного сброса, включая ожидание блокировки общего списка
+     *
+     * @return максимальная длительность сброса в наносекундах
+     */
+    public long getMaxFlushNanos() {
+        return maxFlushNanos.get();
+    }
+
+    /**
+     * Останавливает периодический сброс, дожидается завершения уже начатого периодического сброса
+     * и сбрасывает все полосы в общий список. При прерывании ожидания полосы все равно сбрасываются,
+     * а признак прерывания потока восстанавливается.
+     */
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                while (!scheduler.awaitTermination(1, TimeUnit.SECONDS)) {
+                    // сброс полос конечен, поэтому ожидание завершится
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    private void flushStripe(EvvArrayList<T> stripe) {
+        int count = stripe.size();
+        if (count == 0) {
+            return;
+        }
+        long start = System.nanoTime();
+        backingLock.lock();
+        try {
+            backing.addAll(stripe);
+        } finally {
+            backingLock.unlock();
+        }
+        stripe.clear();
+        long elapsed = System.nanoTime() - start;
+
+        flushCount.incrementAndGet();
+        flushedElements.addAndGet(count);
+        totalFlushNanos.addAndGet(elapsed);
+        maxFlushNanos.accumulateAndGet(elapsed, Math::max);
+    }
+
+    private int stripeIndex() {
+        long id = Thread.currentThread().getId();
+        int hash = (int) (id ^ (id >>> 32));
+        hash ^= (hash >>> 16);
+        return Math.floorMod(hash, stripes.length);
+    }
+}
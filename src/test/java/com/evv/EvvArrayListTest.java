@@ -317,4 +317,358 @@ class EvvArrayListTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Передан неверный размер массива списка: -1");
     }
-}
\ No newline at end of file
+
+    @Test
+    void addAll_NormalFlow() {
+        // given
+        EvvArrayList<String> stringExample2 = new EvvArrayList<>();
+        stringExample2.add("Hibernate");
+        stringExample2.add("Mockito");
+        stringExample2.add("Liquibase");
+        stringExample2.add("AssertJ");
+
+        // when
+        boolean result = stringExample.addAll(stringExample2);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(stringExample.size()).isEqualTo(initStringExampleSize + 4);
+        assertThat(stringExample.get(initStringExampleSize)).isEqualTo("Hibernate");
+        assertThat(stringExample.get(initStringExampleSize + 3)).isEqualTo("AssertJ");
+    }
+
+    @Test
+    void addAll_ItSelf_ShouldDoubleList() {
+        // when
+        stringExample.addAll(stringExample);
+
+        // then
+        assertThat(stringExample.size()).isEqualTo(initStringExampleSize * 2);
+        assertThat(stringExample.get(initStringExampleSize)).isEqualTo("Java");
+        assertThat(stringExample.get(initStringExampleSize * 2 - 1)).isEqualTo("Spring");
+    }
+
+    @Test
+    void addAll_EmptyList_ShouldReturnFalse() {
+        // when
+        boolean result = stringExample.addAll(new EvvArrayList<>());
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(stringExample.size()).isEqualTo(initStringExampleSize);
+    }
+
+    @Test
+    void ensureCapacity_ExactCapacity_ShouldAllowFurtherAdd() {
+        // given
+        EvvArrayList<String> stringExample2 = new EvvArrayList<>(0);
+        stringExample2.ensureCapacity(initStringExampleSize);
+        stringExample2.addAll(stringExample);
+
+        // when
+        stringExample2.add("Hibernate");
+
+        // then
+        assertThat(stringExample2.size()).isEqualTo(initStringExampleSize + 1);
+        assertThat(stringExample2.get(initStringExampleSize)).isEqualTo("Hibernate");
+    }
+
+    @Test
+    void clear_NormalFlow() {
+        // when
+        stringExample.clear();
+        stringExample.add("Hibernate");
+
+        // then
+        assertThat(stringExample.size()).isEqualTo(1);
+        assertThat(stringExample.get(0)).isEqualTo("Hibernate");
+    }
+
+    @Test
+    void addByIndex_NormalFlow() {
+        // when
+        stringExample.add(0, "Hibernate");
+        stringExample.add(3, "Mockito");
+        stringExample.add(stringExample.size(), "Liquibase");
+
+        // then
+        assertThat(stringExample.size()).isEqualTo(initStringExampleSize + 3);
+        assertThat(stringExample.get(0)).isEqualTo("Hibernate");
+        assertThat(stringExample.get(1)).isEqualTo("Java");
+        assertThat(stringExample.get(3)).isEqualTo("Mockito");
+        assertThat(stringExample.get(4)).isEqualTo("Groovy");
+        assertThat(stringExample.get(initStringExampleSize + 2)).isEqualTo("Liquibase");
+    }
+
+    @Test
+    void addByIndex_CheckIncreaseDefaultCapacity10() {
+        // given
+        stringExample.add("AssertJ");
+        stringExample.add("Mockito");
+        stringExample.add("Liquibase");
+        assertThat(stringExample.size()).isEqualTo(DEFAULT_CAPACITY);
+
+        // when
+        stringExample.add(1, "Hibernate");
+
+        // then
+        assertThat(stringExample.size()).isEqualTo(DEFAULT_CAPACITY + 1);
+        assertThat(stringExample.get(1)).isEqualTo("Hibernate");
+        assertThat(stringExample.get(DEFAULT_CAPACITY)).isEqualTo("Liquibase");
+    }
+
+    @Test
+    void addByIndex_TooBigIndex_ShouldThrowIndexOutOfBoundsException() {
+        // when
+        assertThatThrownBy(() -> stringExample.add(8, "Hibernate"))
+        // then
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .hasMessageContaining("Index 8 out of bounds for length 8");
+    }
+
+    @Test
+    void removeByIndex_NormalFlow() {
+        // when
+        String result = stringExample.remove(3);
+
+        // then
+        assertThat(result).isEqualTo("Maven");
+        assertThat(stringExample.size()).isEqualTo(initStringExampleSize - 1);
+        assertThat(stringExample.get(3)).isEqualTo("Gradle");
+    }
+
+    @Test
+    void removeByIndex_DuplicateElements_ShouldRemoveExactPosition() {
+        // given
+        stringExample.add("Java");
+
+        // when
+        String result = stringExample.remove(initStringExampleSize);
+
+        // then
+        assertThat(result).isEqualTo("Java");
+        assertThat(stringExample.size()).isEqualTo(initStringExampleSize);
+        assertThat(stringExample.get(0)).isEqualTo("Java");
+    }
+
+    @Test
+    void removeByIndex_NegativeIndex_ShouldThrowIndexOutOfBoundsException() {
+        // when
+        assertThatThrownBy(() -> stringExample.remove(-1))
+        // then
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .hasMessageContaining("Index -1 out of bounds for length 7");
+    }
+
+    @Test
+    void removeRange_NormalFlow() {
+        // when
+        stringExample.removeRange(1, 4);
+
+        // then
+        assertThat(stringExample.size()).isEqualTo(initStringExampleSize - 3);
+        assertThat(stringExample.get(0)).isEqualTo("Java");
+        assertThat(stringExample.get(1)).isEqualTo("Gradle");
+        assertThat(stringExample.get(3)).isEqualTo("Spring");
+    }
+
+    @Test
+    void removeRange_EmptyRange_ShouldNotChangeList() {
+        // when
+        stringExample.removeRange(3, 3);
+
+        // then
+        assertThat(stringExample.size()).isEqualTo(initStringExampleSize);
+    }
+
+    @Test
+    void removeRange_lowerIndexBiggerThenHigherIndex_ShouldThrowIndexOutOfBoundsException() {
+        // when
+        assertThatThrownBy(() -> stringExample.removeRange(6, 4))
+        // then
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .hasMessageContaining("Range [6, 4) out of bounds for length 7");
+    }
+
+    @Test
+    void removeIf_NormalFlow() {
+        // when
+        boolean result1 = stringExample.removeIf(elem -> elem.startsWith("J"));
+        boolean result2 = stringExample.removeIf(elem -> elem.startsWith("J")); // второе удаление должно быть false
+
+        // then
+        assertThat(result1).isTrue();
+        assertThat(result2).isFalse();
+        assertThat(stringExample.size()).isEqualTo(initStringExampleSize - 2);
+        assertThat(stringExample.get(0)).isEqualTo("Kotlin");
+        assertThat(stringExample.get(initStringExampleSize - 3)).isEqualTo("Spring");
+    }
+
+    @Test
+    void removeIf_NullElements_ShouldRemoveNulls() {
+        // given
+        stringExample.add(1, null);
+        stringExample.add(null);
+
+        // when
+        boolean result = stringExample.removeIf(elem -> elem == null);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(stringExample.size()).isEqualTo(initStringExampleSize);
+        assertThat(stringExample.get(1)).isEqualTo("Kotlin");
+    }
+
+    @Test
+    void removeIf_FilterThrows_ShouldLeaveListUnchanged() {
+        // given
+        EvvArrayList<String> copy = stringExample.view().toArrayList();
+
+        // when
+        assertThatThrownBy(() -> stringExample.removeIf(elem -> {
+            if (elem.equals("Groovy")) {
+                throw new IllegalStateException("Ошибка условия");
+            }
+            return elem.equals("Java");
+        }))
+        // then
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(stringExample).isEqualTo(copy);
+    }
+
+    @Test
+    void removeIf_ManyElements_ShouldKeepOrder() {
+        // given
+        EvvArrayList<Integer> list = new EvvArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            list.add(i);
+        }
+
+        // when
+        boolean result = list.removeIf(elem -> elem % 3 == 0);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(list.size()).isEqualTo(133);
+        assertThat(list.get(0)).isEqualTo(1);
+        assertThat(list.get(42)).isEqualTo(64);
+        assertThat(list.get(132)).isEqualTo(199);
+    }
+
+    @Test
+    void snapshot_ShouldNotSeeLaterChanges() {
+        // given
+        EvvArrayList<String> snapshot = stringExample.snapshot();
+
+        // when
+        stringExample.set(0, "Scala");
+        stringExample.add("Hibernate");
+        snapshot.remove(1);
+
+        // then
+        assertThat(snapshot.size()).isEqualTo(initStringExampleSize - 1);
+        assertThat(snapshot.get(0)).isEqualTo("Java");
+        assertThat(snapshot.get(1)).isEqualTo("Groovy");
+        assertThat(stringExample.get(0)).isEqualTo("Scala");
+        assertThat(stringExample.get(1)).isEqualTo("Kotlin");
+        assertThat(stringExample.size()).isEqualTo(initStringExampleSize + 1);
+    }
+
+    @Test
+    void changesSince_NormalFlow() {
+        // given
+        stringExample.enableChangeTracking(100);
+        EvvArrayList<String> replica = stringExample.snapshot();
+        long replicaVersion = stringExample.getVersion();
+
+        // when
+        stringExample.add("Hibernate");
+        stringExample.add(0, "Lombok");
+        stringExample.set(3, "Scala");
+        stringExample.remove("Maven");
+        stringExample.removeRange(0, 2);
+        stringExample.removeIf(elem -> elem.startsWith("J"));
+        stringExample.addAll(replica.subList(0, 2));
+        EvvArrayList<EvvListChange<String>> changes = stringExample.changesSince(replicaVersion);
+        for (int i = 0; i < changes.size(); i++) {
+            changes.get(i).applyTo(replica);
+        }
+
+        // then
+        assertThat(replicaVersion).isZero();
+        assertThat(stringExample.getVersion()).isEqualTo(changes.size());
+        assertThat(changes.get(0).getOperation()).isEqualTo(EvvListChange.Operation.ADD);
+        assertThat(changes.get(0).getVersion()).isEqualTo(1);
+        assertThat(changes.get(2).getOperation()).isEqualTo(EvvListChange.Operation.SET);
+        assertThat(changes.get(4).getCount()).isEqualTo(2);
+        assertThat(replica).isEqualTo(stringExample);
+    }
+
+    @Test
+    void changesSince_RemoveIfFilterThrows_ShouldNotRecordChanges() {
+        // given
+        stringExample.enableChangeTracking(10);
+        EvvArrayList<String> snapshot = stringExample.snapshot();
+        long version = stringExample.getVersion();
+
+        // when
+        boolean noop = stringExample.removeIf(elem -> elem.equals("Hibernate"));
+        assertThatThrownBy(() -> stringExample.removeIf(elem -> {
+            if (elem.equals("Groovy")) {
+                throw new IllegalStateException("Ошибка условия");
+            }
+            return elem.equals("Java");
+        }))
+                .isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(noop).isFalse();
+        assertThat(stringExample.getVersion()).isEqualTo(version);
+        assertThat(stringExample.changesSince(version).size()).isZero();
+        assertThat(snapshot).isEqualTo(stringExample);
+    }
+
+    @Test
+    void changesSince_CurrentVersion_ShouldReturnEmptyList() {
+        // given
+        stringExample.enableChangeTracking(10);
+        stringExample.add("Hibernate");
+
+        // when
+        EvvArrayList<EvvListChange<String>> changes = stringExample.changesSince(stringExample.getVersion());
+
+        // then
+        assertThat(changes.size()).isZero();
+    }
+
+    @Test
+    void changesSince_EvictedVersion_ShouldThrowException() {
+        // given
+        stringExample.enableChangeTracking(3);
+        for (int i = 0; i < 5; i++) {
+            stringExample.set(i, "Value" + i);
+        }
+
+        // when
+        EvvArrayList<EvvListChange<String>> changes = stringExample.changesSince(2);
+
+        // then
+        assertThat(changes.size()).isEqualTo(3);
+        assertThat(changes.get(0).getValue()).isEqualTo("Value2");
+        assertThatThrownBy(() -> stringExample.changesSince(1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Журнал не содержит изменений после версии: 1");
+        assertThatThrownBy(() -> stringExample.changesSince(6))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void changeTracking_NotEnabled_ShouldThrowException() {
+        assertThatThrownBy(() -> stringExample.changesSince(0))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Отслеживание изменений не включено");
+        assertThatThrownBy(() -> stringExample.enableChangeTracking(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Передан неверный размер журнала изменений: 0");
+    }
+}
@@ -0,0 +1,182 @@
+package com.evv;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+
+class EvvColumnarListTest {
+
+    private EvvColumnarList samplesExample;
+
+    private static final int ID = 0;
+
+    private static final int TIMESTAMP = 1;
+
+    private static final int VALUE = 2;
+
+    private static final int initSamplesExampleSize = 12;
+
+    /**
+     * Запись, которую тесты преобразуют в столбцы и обратно
+     */
+    private static final class Sample {
+
+        private final int id;
+
+        private final long timestamp;
+
+        private final double value;
+
+        private Sample(int id, long timestamp, double value) {
+            this.id = id;
+            this.timestamp = timestamp;
+            this.value = value;
+        }
+    }
+
+    @BeforeEach
+    void prepareData() {
+        EvvRecordSchema schema = new EvvRecordSchema()
+                .addInt("id")
+                .addLong("timestamp")
+                .addDouble("value");
+        samplesExample = new EvvColumnarList(schema);
+        for (int i = 0; i < initSamplesExampleSize; i++) { // добавляется больше записей, чем размер массивов по умолчанию
+            samplesExample.addRecord()
+                    .setInt(ID, i)
+                    .setLong(TIMESTAMP, 1000L + i)
+                    .setDouble(VALUE, i * 0.5);
+        }
+    }
+
+    @Test
+    void get_NormalFlow() {
+        // when
+        EvvColumnarList.Record record = samplesExample.get(11);
+
+        // then
+        assertThat(record.index()).isEqualTo(11);
+        assertThat(record.getInt(ID)).isEqualTo(11);
+        assertThat(record.getLong(TIMESTAMP)).isEqualTo(1011L);
+        assertThat(record.getDouble(VALUE)).isEqualTo(5.5);
+        assertThat(samplesExample.size()).isEqualTo(initSamplesExampleSize);
+    }
+
+    @Test
+    void get_ShouldReuseFlyweight() {
+        // when
+        EvvColumnarList.Record first = samplesExample.get(0);
+        EvvColumnarList.Record second = samplesExample.get(1);
+
+        // then
+        assertThat(first).isSameAs(second);
+        assertThat(first.getInt(ID)).isEqualTo(1);
+    }
+
+    @Test
+    void get_TooBigIndex_ShouldThrowIndexOutOfBoundsException() {
+        // when
+        assertThatThrownBy(() -> samplesExample.get(12))
+        // then
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .hasMessageContaining("Index 12 out of bounds for length 12");
+    }
+
+    @Test
+    void get_WrongColumnType_ShouldThrowIllegalArgumentException() {
+        // when
+        assertThatThrownBy(() -> samplesExample.get(0).getLong(VALUE))
+        // then
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Поле value имеет тип DOUBLE");
+    }
+
+    @Test
+    void remove_NormalFlow() {
+        // when
+        samplesExample.remove(3);
+
+        // then
+        assertThat(samplesExample.size()).isEqualTo(initSamplesExampleSize - 1);
+        assertThat(samplesExample.get(3).getInt(ID)).isEqualTo(4);
+        assertThat(samplesExample.get(3).getLong(TIMESTAMP)).isEqualTo(1004L);
+    }
+
+    @Test
+    void addRecord_AfterRemove_ShouldHaveZeroFields() {
+        // given
+        samplesExample.remove(initSamplesExampleSize - 1);
+
+        // when
+        EvvColumnarList.Record record = samplesExample.addRecord();
+
+        // then
+        assertThat(record.getInt(ID)).isZero();
+        assertThat(record.getLong(TIMESTAMP)).isZero();
+        assertThat(record.getDouble(VALUE)).isZero();
+        assertThat(samplesExample.size()).isEqualTo(initSamplesExampleSize);
+    }
+
+    @Test
+    void countLong_IntAndLongColumns_NormalFlow() {
+        // then
+        assertThat(samplesExample.countLong(ID, id -> id % 2 == 0)).isEqualTo(6);
+        assertThat(samplesExample.countLong(TIMESTAMP, ts -> ts >= 1010L)).isEqualTo(2);
+        assertThat(samplesExample.filterLong(TIMESTAMP, ts -> ts < 1003L).size()).isEqualTo(3);
+        assertThatThrownBy(() -> samplesExample.countLong(VALUE, v -> true))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void sumAndAverage_NormalFlow() {
+        // when
+        long idSum = samplesExample.sumLong(ID);
+        double valueSum = samplesExample.sumDouble(VALUE);
+        double timestampAverage = samplesExample.average(TIMESTAMP);
+
+        // then
+        assertThat(idSum).isEqualTo(66L);
+        assertThat(valueSum).isEqualTo(33.0);
+        assertThat(timestampAverage).isEqualTo(1005.5);
+    }
+
+    @Test
+    void filter_NormalFlow() {
+        // when
+        int evenCount = samplesExample.countLong(ID, id -> id % 2 == 0);
+        EvvColumnarList result = samplesExample.filterDouble(VALUE, value -> value >= 4.0);
+
+        // then
+        assertThat(evenCount).isEqualTo(6);
+        assertThat(result.size()).isEqualTo(4);
+        assertThat(result.get(0).getInt(ID)).isEqualTo(8);
+        assertThat(result.get(3).getLong(TIMESTAMP)).isEqualTo(1011L);
+    }
+
+    @Test
+    void toArrayListAndBack_ShouldKeepValues() {
+        // when
+        EvvArrayList<Sample> list = samplesExample.toArrayList(
+                r -> new Sample(r.getInt(ID), r.getLong(TIMESTAMP), r.getDouble(VALUE)));
+        EvvColumnarList result = EvvColumnarList.fromArrayList(list, samplesExample.schema(),
+                (sample, r) -> r.setInt(ID, sample.id).setLong(TIMESTAMP, sample.timestamp).setDouble(VALUE, sample.value));
+
+        // then
+        assertThat(list.size()).isEqualTo(initSamplesExampleSize);
+        assertThat(list.get(5).timestamp).isEqualTo(1005L);
+        assertThat(result.size()).isEqualTo(initSamplesExampleSize);
+        assertThat(result.get(7).getDouble(VALUE)).isEqualTo(3.5);
+    }
+
+    @Test
+    void schema_DuplicateName_ShouldThrowIllegalArgumentException() {
+        // when
+        assertThatThrownBy(() -> new EvvRecordSchema().addInt("id").addLong("id"))
+        // then
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Поле с таким именем уже есть: id");
+    }
+}
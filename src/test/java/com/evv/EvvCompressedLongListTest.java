@@ -0,0 +1,173 @@
+package com.evv;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.PrimitiveIterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+
+class EvvCompressedLongListTest {
+
+    private EvvCompressedLongList idsExample;
+
+    private static final int initIdsExampleSize = 1000; // несколько полных блоков и неполный последний блок
+
+    private static long idAt(int index) {
+        return 1_000_000_000L + index * 7L;
+    }
+
+    @BeforeEach
+    void prepareData() {
+        idsExample = new EvvCompressedLongList();
+        for (int i = 0; i < initIdsExampleSize; i++) {
+            idsExample.add(idAt(i));
+        }
+    }
+
+    @Test
+    void get_NormalFlow() {
+        // then
+        assertThat(idsExample.size()).isEqualTo(initIdsExampleSize);
+        for (int i = 0; i < initIdsExampleSize; i++) {
+            assertThat(idsExample.get(i)).isEqualTo(idAt(i));
+        }
+    }
+
+    @Test
+    void get_TooBigIndex_ShouldThrowIndexOutOfBoundsException() {
+        // when
+        assertThatThrownBy(() -> idsExample.get(initIdsExampleSize))
+        // then
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .hasMessageContaining("Index 1000 out of bounds for length 1000");
+    }
+
+    @Test
+    void add_LessThenLast_ShouldThrowIllegalArgumentException() {
+        // when
+        assertThatThrownBy(() -> idsExample.add(0))
+        // then
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void add_ExtremeValues_ShouldKeepValues() {
+        // given
+        EvvCompressedLongList list = new EvvCompressedLongList();
+        for (int i = 0; i < EvvCompressedLongList.BLOCK_SIZE; i++) { // разность в блоке не помещается в long со знаком
+            list.add(i < 64 ? Long.MIN_VALUE + i : Long.MAX_VALUE - 127 + i);
+        }
+
+        // then
+        assertThat(list.get(0)).isEqualTo(Long.MIN_VALUE);
+        assertThat(list.get(63)).isEqualTo(Long.MIN_VALUE + 63);
+        assertThat(list.get(64)).isEqualTo(Long.MAX_VALUE - 63);
+        assertThat(list.get(127)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void indexOf_NormalFlow() {
+        // then
+        assertThat(idsExample.indexOf(idAt(0))).isEqualTo(0);
+        assertThat(idsExample.indexOf(idAt(128))).isEqualTo(128);
+        assertThat(idsExample.indexOf(idAt(500))).isEqualTo(500);
+        assertThat(idsExample.indexOf(idAt(999))).isEqualTo(999);
+        assertThat(idsExample.indexOf(idAt(500) + 1)).isEqualTo(-1);
+        assertThat(idsExample.contains(idAt(0) - 1)).isFalse();
+        assertThat(idsExample.contains(idAt(999) + 7)).isFalse();
+    }
+
+    @Test
+    void indexOf_DuplicatesAcrossBlocks_ShouldReturnFirstOccurrence() {
+        // given
+        EvvCompressedLongList list = new EvvCompressedLongList();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        for (int i = 0; i < 300; i++) { // повторяющееся значение занимает конец блока и следующие блоки
+            list.add(500);
+        }
+        list.add(501);
+
+        // then
+        assertThat(list.indexOf(500)).isEqualTo(100);
+        assertThat(list.indexOf(501)).isEqualTo(400);
+        assertThat(list.indexOf(99)).isEqualTo(99);
+    }
+
+    @Test
+    void indexOf_EveryValueAndGap_ShouldMatchPositions() {
+        // when
+        for (int i = 0; i < initIdsExampleSize; i++) {
+            // then
+            assertThat(idsExample.indexOf(idAt(i))).isEqualTo(i);
+            assertThat(idsExample.indexOf(idAt(i) + 3)).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    void indexOf_ExtremeValues_ShouldFindValues() {
+        // given
+        EvvCompressedLongList list = new EvvCompressedLongList();
+        for (int i = 0; i < EvvCompressedLongList.BLOCK_SIZE; i++) { // разности упакованы в 64 бита
+            list.add(i < 64 ? Long.MIN_VALUE + i : Long.MAX_VALUE - 127 + i);
+        }
+
+        // then
+        assertThat(list.indexOf(Long.MIN_VALUE + 63)).isEqualTo(63);
+        assertThat(list.indexOf(Long.MAX_VALUE - 63)).isEqualTo(64);
+        assertThat(list.indexOf(Long.MAX_VALUE)).isEqualTo(127);
+        assertThat(list.contains(0)).isFalse();
+    }
+
+    @Test
+    void iterator_NormalFlow() {
+        // given
+        PrimitiveIterator.OfLong iterator = idsExample.iterator();
+        int count = 0;
+
+        // when
+        while (iterator.hasNext()) {
+            assertThat(iterator.nextLong()).isEqualTo(idAt(count));
+            count++;
+        }
+
+        // then
+        assertThat(count).isEqualTo(initIdsExampleSize);
+    }
+
+    @Test
+    void estimatedBytes_DenseIds_ShouldBeSmallerThenUncompressed() {
+        // given
+        EvvCompressedLongList list = new EvvCompressedLongList();
+        int count = 100_000;
+        for (int i = 0; i < count; i++) {
+            list.add(idAt(i));
+        }
+
+        // when
+        long result = list.estimatedBytes();
+
+        // then
+        assertThat(result * 4).isLessThan((long) count * Long.BYTES);
+    }
+
+    @Test
+    void of_NormalFlow() {
+        // given
+        EvvArrayList<Long> sorted = new EvvArrayList<>();
+        sorted.add(3L);
+        sorted.add(5L);
+        sorted.add(8L);
+
+        // when
+        EvvCompressedLongList result = EvvCompressedLongList.of(sorted);
+
+        // then
+        assertThat(result.size()).isEqualTo(3);
+        assertThat(result.get(2)).isEqualTo(8L);
+    }
+}
@@ -0,0 +1,86 @@
+package com.evv;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+
+class EvvConcurrentArrayListTest {
+
+    private EvvConcurrentArrayList<String> stringExample;
+
+    private static final int initStringExampleSize = 4;
+
+    @BeforeEach
+    void prepareData() {
+        stringExample = new EvvConcurrentArrayList<>();
+        stringExample.add("Java");
+        stringExample.add("Kotlin");
+        stringExample.add("Groovy");
+        stringExample.add("Maven");
+    }
+
+    @Test
+    void add_get_set_remove_NormalFlow() {
+        // when
+        stringExample.add(1, "Scala");
+        String groovyResult = stringExample.set(3, "Gradle");
+        boolean javaResult = stringExample.remove("Java");
+        String scalaResult = stringExample.remove(0);
+
+        // then
+        assertThat(groovyResult).isEqualTo("Groovy");
+        assertThat(javaResult).isTrue();
+        assertThat(scalaResult).isEqualTo("Scala");
+        assertThat(stringExample.size()).isEqualTo(initStringExampleSize - 1);
+        assertThat(stringExample.get(1)).isEqualTo("Gradle");
+    }
+
+    @Test
+    void subList_NormalFlow() {
+        // when
+        EvvArrayList<String> result = stringExample.subList(1, 3);
+
+        // then
+        assertThat(result.size()).isEqualTo(2);
+        assertThat(result.get(0)).isEqualTo("Kotlin");
+        assertThat(result.get(1)).isEqualTo("Groovy");
+    }
+
+    @Test
+    void get_TooBigIndex_ShouldThrowIndexOutOfBoundsException() {
+        // when
+        assertThatThrownBy(() -> stringExample.get(4))
+        // then
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .hasMessageContaining("Index 4 out of bounds for length 4");
+    }
+
+    @Test
+    void add_ManyThreads_ShouldKeepAllElements() throws InterruptedException {
+        // given
+        int threadCount = 4;
+        int perThread = 1000;
+        Thread[] threads = new Thread[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    stringExample.add("Spring");
+                }
+            });
+        }
+
+        // when
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        assertThat(stringExample.size()).isEqualTo(initStringExampleSize + threadCount * perThread);
+    }
+}
@@ -0,0 +1,145 @@
+package com.evv;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+
+class EvvDaryHeapTest {
+
+    private EvvDaryHeap<String> stringExample;
+
+    private static final int initStringExampleSize = 7;
+
+    @BeforeEach
+    void prepareData() {
+        stringExample = new EvvDaryHeap<>();
+        stringExample.offer("Maven");
+        stringExample.offer("Java");
+        stringExample.offer("Spring");
+        stringExample.offer("Gradle");
+        stringExample.offer("Kotlin");
+        stringExample.offer("JUnit");
+        stringExample.offer("Groovy");
+    }
+
+    @Test
+    void constructor_WrongArity_ShouldThrowException() {
+        assertThatThrownBy(() -> new EvvDaryHeap<String>(1, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Передана неверная арность кучи: 1");
+    }
+
+    @Test
+    void poll_NormalFlow() {
+        assertThat(stringExample.size()).isEqualTo(initStringExampleSize);
+
+        // when
+        String first = stringExample.poll();
+        String second = stringExample.poll();
+
+        // then
+        assertThat(first).isEqualTo("Gradle");
+        assertThat(second).isEqualTo("Groovy");
+        assertThat(stringExample.peek()).isEqualTo("JUnit");
+        assertThat(stringExample.size()).isEqualTo(initStringExampleSize - 2);
+    }
+
+    @Test
+    void poll_EmptyHeap_ShouldReturnNull() {
+        // given
+        EvvDaryHeap<Integer> heap = new EvvDaryHeap<>();
+
+        // then
+        assertThat(heap.poll()).isNull();
+        assertThat(heap.peek()).isNull();
+        assertThat(heap.isEmpty()).isTrue();
+        assertThatThrownBy(heap::remove)
+                .isInstanceOf(NoSuchElementException.class)
+                .hasMessage("Куча пуста");
+    }
+
+    @Test
+    void offer_NullElement_ShouldThrowException() {
+        assertThatThrownBy(() -> stringExample.offer(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void offerPoll_RandomElements_ShouldMatchPriorityQueue() {
+        // given
+        Random random = new Random(42);
+        for (int arity = 2; arity <= 8; arity++) {
+            EvvDaryHeap<Integer> heap = new EvvDaryHeap<>(arity, Comparator.reverseOrder());
+            PriorityQueue<Integer> expected = new PriorityQueue<>(Comparator.reverseOrder());
+
+            // when
+            for (int i = 0; i < 5000; i++) {
+                if (random.nextInt(3) > 0) {
+                    int elem = random.nextInt(1000);
+                    heap.offer(elem);
+                    expected.offer(elem);
+                } else {
+                    // then
+                    assertThat(heap.poll()).isEqualTo(expected.poll());
+                }
+            }
+            while (!expected.isEmpty()) {
+                assertThat(heap.poll()).isEqualTo(expected.poll());
+            }
+            assertThat(heap.isEmpty()).isTrue();
+        }
+    }
+
+    @Test
+    void heapify_NormalFlow() {
+        // given
+        EvvArrayList<String> elements = new EvvArrayList<>();
+        elements.add("Hibernate");
+        elements.add("Apache");
+        elements.add("Lombok");
+
+        // when
+        stringExample.heapify(elements);
+
+        // then
+        assertThat(stringExample.size()).isEqualTo(initStringExampleSize + 3);
+        EvvArrayList<String> polled = new EvvArrayList<>();
+        while (!stringExample.isEmpty()) {
+            polled.add(stringExample.poll());
+        }
+        assertThat(polled.view().reduce("", (a, b) -> a + b + " "))
+                .isEqualTo("Apache Gradle Groovy Hibernate JUnit Java Kotlin Lombok Maven Spring ");
+    }
+
+    @Test
+    void heapify_EmptyHeapAndList_ShouldStayEmpty() {
+        // given
+        EvvDaryHeap<Integer> heap = new EvvDaryHeap<>();
+
+        // when
+        heap.heapify(new EvvArrayList<>());
+
+        // then
+        assertThat(heap.isEmpty()).isTrue();
+    }
+
+    @Test
+    void heapify_NullElement_ShouldThrowException() {
+        // given
+        EvvArrayList<String> elements = new EvvArrayList<>();
+        elements.add(null);
+
+        // then
+        assertThatThrownBy(() -> stringExample.heapify(elements))
+                .isInstanceOf(NullPointerException.class);
+        assertThat(stringExample.size()).isEqualTo(initStringExampleSize);
+    }
+}
@@ -0,0 +1,135 @@
+package com.evv;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+
+class EvvIndexedDaryHeapTest {
+
+    private EvvIndexedDaryHeap<Integer> intExample;
+
+    private static final int maxId = 10;
+
+    @BeforeEach
+    void prepareData() {
+        intExample = new EvvIndexedDaryHeap<>(maxId);
+        intExample.offer(0, 50);
+        intExample.offer(1, 20);
+        intExample.offer(2, 70);
+        intExample.offer(3, 10);
+        intExample.offer(4, 40);
+        intExample.offer(5, 60);
+    }
+
+    @Test
+    void constructor_WrongArguments_ShouldThrowException() {
+        assertThatThrownBy(() -> new EvvIndexedDaryHeap<Integer>(-1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Передана неверная граница идентификаторов: -1");
+        assertThatThrownBy(() -> new EvvIndexedDaryHeap<Integer>(5, 0, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Передана неверная арность кучи: 0");
+    }
+
+    @Test
+    void pollId_NormalFlow() {
+        // when
+        int first = intExample.pollId();
+        int second = intExample.pollId();
+
+        // then
+        assertThat(first).isEqualTo(3);
+        assertThat(second).isEqualTo(1);
+        assertThat(intExample.contains(3)).isFalse();
+        assertThat(intExample.peekId()).isEqualTo(4);
+        assertThat(intExample.size()).isEqualTo(4);
+    }
+
+    @Test
+    void decreaseKey_NormalFlow() {
+        // when
+        intExample.decreaseKey(2, 5);
+
+        // then
+        assertThat(intExample.priorityOf(2)).isEqualTo(5);
+        assertThat(intExample.pollId()).isEqualTo(2);
+        assertThat(intExample.pollId()).isEqualTo(3);
+    }
+
+    @Test
+    void decreaseKey_GreaterPriority_ShouldThrowException() {
+        assertThatThrownBy(() -> intExample.decreaseKey(3, 11))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Передан приоритет больше текущего: 11");
+    }
+
+    @Test
+    void decreaseKey_MissingId_ShouldThrowException() {
+        assertThatThrownBy(() -> intExample.decreaseKey(7, 1))
+                .isInstanceOf(NoSuchElementException.class)
+                .hasMessage("Идентификатора нет в куче: 7");
+        assertThatThrownBy(() -> intExample.decreaseKey(maxId, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void offer_ExistingId_ShouldThrowException() {
+        assertThatThrownBy(() -> intExample.offer(1, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Идентификатор уже есть в куче: 1");
+    }
+
+    @Test
+    void offer_AfterPoll_ShouldReuseId() {
+        // given
+        int polled = intExample.pollId();
+
+        // when
+        intExample.offer(polled, 100);
+
+        // then
+        assertThat(intExample.priorityOf(polled)).isEqualTo(100);
+        assertThat(intExample.size()).isEqualTo(6);
+    }
+
+    @Test
+    void pollId_EmptyHeap_ShouldThrowException() {
+        // given
+        EvvIndexedDaryHeap<Integer> heap = new EvvIndexedDaryHeap<>(3);
+
+        // then
+        assertThat(heap.isEmpty()).isTrue();
+        assertThatThrownBy(heap::pollId)
+                .isInstanceOf(NoSuchElementException.class)
+                .hasMessage("Куча пуста");
+    }
+
+    @Test
+    void decreaseKey_ManyUpdates_ShouldPollInPriorityOrder() {
+        // given
+        int count = 1000;
+        EvvIndexedDaryHeap<Integer> heap = new EvvIndexedDaryHeap<>(count, 3, null);
+        for (int id = 0; id < count; id++) {
+            heap.offer(id, 10 * count + id);
+        }
+
+        // when
+        for (int id = 0; id < count; id += 2) {
+            heap.decreaseKey(id, count - id); // четные идентификаторы получают обратный порядок
+        }
+
+        // then
+        int previous = Integer.MIN_VALUE;
+        while (!heap.isEmpty()) {
+            int priority = heap.priorityOf(heap.peekId());
+            heap.pollId();
+            assertThat(priority).isGreaterThanOrEqualTo(previous);
+            previous = priority;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.evv;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.PrimitiveIterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+class EvvIntBitmapTest {
+
+    private EvvIntBitmap evenExample;
+
+    private EvvIntBitmap tripleExample;
+
+    private static final int LIMIT = 200_000; // несколько групп, в том числе плотные (битовые карты)
+
+    @BeforeEach
+    void prepareData() {
+        evenExample = new EvvIntBitmap();
+        tripleExample = new EvvIntBitmap();
+        for (int i = 0; i < LIMIT; i++) {
+            if (i % 2 == 0) {
+                evenExample.add(i);
+            }
+            if (i % 3 == 0) {
+                tripleExample.add(i);
+            }
+        }
+    }
+
+    @Test
+    void add_NormalFlow() {
+        // given
+        EvvIntBitmap bitmap = new EvvIntBitmap();
+
+        // when
+        boolean result1 = bitmap.add(42);
+        boolean result2 = bitmap.add(42); // повторное добавление должно быть false
+        bitmap.add(-1);
+        bitmap.add(70_000);
+
+        // then
+        assertThat(result1).isTrue();
+        assertThat(result2).isFalse();
+        assertThat(bitmap.size()).isEqualTo(3);
+        assertThat(bitmap.contains(42)).isTrue();
+        assertThat(bitmap.contains(-1)).isTrue();
+        assertThat(bitmap.contains(43)).isFalse();
+    }
+
+    @Test
+    void contains_DenseGroups_NormalFlow() {
+        // then
+        assertThat(evenExample.size()).isEqualTo(LIMIT / 2);
+        assertThat(evenExample.contains(0)).isTrue();
+        assertThat(evenExample.contains(131_072)).isTrue();
+        assertThat(evenExample.contains(131_073)).isFalse();
+        assertThat(evenExample.contains(LIMIT)).isFalse();
+    }
+
+    @Test
+    void remove_NormalFlow() {
+        // when
+        boolean result1 = evenExample.remove(100);
+        boolean result2 = evenExample.remove(100); // второе удаление должно быть false
+        boolean result3 = evenExample.remove(101);
+
+        // then
+        assertThat(result1).isTrue();
+        assertThat(result2).isFalse();
+        assertThat(result3).isFalse();
+        assertThat(evenExample.contains(100)).isFalse();
+        assertThat(evenExample.size()).isEqualTo(LIMIT / 2 - 1);
+    }
+
+    @Test
+    void remove_DenseGroupBecomesSparse_ShouldKeepRemainingValues() {
+        // given
+        EvvIntBitmap bitmap = new EvvIntBitmap();
+        for (int i = 0; i < 10_000; i++) {
+            bitmap.add(i);
+        }
+
+        // when
+        for (int i = 0; i < 9_990; i++) {
+            bitmap.remove(i);
+        }
+
+        // then
+        assertThat(bitmap.size()).isEqualTo(10);
+        assertThat(bitmap.contains(9_989)).isFalse();
+        assertThat(bitmap.contains(9_990)).isTrue();
+        assertThat(bitmap.contains(9_999)).isTrue();
+    }
+
+    @Test
+    void iterator_ShouldReturnValuesInUnsignedOrder() {
+        // given
+        EvvIntBitmap bitmap = new EvvIntBitmap();
+        bitmap.add(-5);
+        bitmap.add(70_000);
+        bitmap.add(3);
+        bitmap.add(1);
+
+        // when
+        PrimitiveIterator.OfInt iterator = bitmap.iterator();
+
+        // then
+        assertThat(iterator.nextInt()).isEqualTo(1);
+        assertThat(iterator.nextInt()).isEqualTo(3);
+        assertThat(iterator.nextInt()).isEqualTo(70_000);
+        assertThat(iterator.nextInt()).isEqualTo(-5);
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    void and_NormalFlow() {
+        // when
+        EvvIntBitmap result = evenExample.and(tripleExample);
+
+        // then
+        assertThat(result.size()).isEqualTo((LIMIT + 5) / 6);
+        assertThat(result.contains(6)).isTrue();
+        assertThat(result.contains(4)).isFalse();
+        assertThat(result.contains(9)).isFalse();
+    }
+
+    @Test
+    void or_NormalFlow() {
+        // when
+        EvvIntBitmap result = evenExample.or(tripleExample);
+
+        // then
+        assertThat(result.size()).isEqualTo(LIMIT / 2 + (LIMIT + 2) / 3 - (LIMIT + 5) / 6);
+        assertThat(result.contains(4)).isTrue();
+        assertThat(result.contains(9)).isTrue();
+        assertThat(result.contains(7)).isFalse();
+    }
+
+    @Test
+    void andNot_NormalFlow() {
+        // when
+        EvvIntBitmap result = evenExample.andNot(tripleExample);
+
+        // then
+        assertThat(result.size()).isEqualTo(LIMIT / 2 - (LIMIT + 5) / 6);
+        assertThat(result.contains(4)).isTrue();
+        assertThat(result.contains(6)).isFalse();
+    }
+
+    @Test
+    void iterator_AfterAnd_ShouldMatchContains() {
+        // given
+        EvvIntBitmap result = evenExample.and(tripleExample);
+        PrimitiveIterator.OfInt iterator = result.iterator();
+        int expected = 0;
+
+        // when
+        while (iterator.hasNext()) {
+            assertThat(iterator.nextInt()).isEqualTo(expected);
+            expected += 6;
+        }
+
+        // then
+        assertThat(expected).isEqualTo(200_004);
+    }
+}
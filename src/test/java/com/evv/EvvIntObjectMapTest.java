@@ -0,0 +1,131 @@
+package com.evv;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+
+class EvvIntObjectMapTest {
+
+    private EvvIntObjectMap<String> stringExample;
+
+    private final int initStringExampleSize = 1000;
+
+    @BeforeEach
+    void prepareData() {
+        stringExample = new EvvIntObjectMap<>();
+        for (int i = 0; i < initStringExampleSize; i++) {
+            stringExample.put(i, "Value" + i);
+        }
+    }
+
+    @Test
+    void constructor_NegativeSize_ShouldThrowException() {
+        assertThatThrownBy(() -> new EvvIntObjectMap<>(-1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Передан неверный размер таблицы: -1");
+    }
+
+    @Test
+    void get_NormalFlow() {
+        // then
+        assertThat(stringExample.size()).isEqualTo(initStringExampleSize);
+        assertThat(stringExample.get(0)).isEqualTo("Value0");
+        assertThat(stringExample.get(500)).isEqualTo("Value500");
+        assertThat(stringExample.get(initStringExampleSize)).isNull();
+        assertThat(stringExample.containsKey(999)).isTrue();
+        assertThat(stringExample.containsKey(-1)).isFalse();
+    }
+
+    @Test
+    void put_ExistingKey_ShouldReplaceValue() {
+        // when
+        String oldValue = stringExample.put(7, "Seven");
+
+        // then
+        assertThat(oldValue).isEqualTo("Value7");
+        assertThat(stringExample.get(7)).isEqualTo("Seven");
+        assertThat(stringExample.size()).isEqualTo(initStringExampleSize);
+    }
+
+    @Test
+    void put_NullValue_ShouldBeContained() {
+        // given
+        EvvIntObjectMap<String> map = new EvvIntObjectMap<>();
+
+        // when
+        map.put(5, null);
+
+        // then
+        assertThat(map.containsKey(5)).isTrue();
+        assertThat(map.get(5)).isNull();
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void remove_ZeroKey_NormalFlow() {
+        // when
+        String removed = stringExample.remove(0);
+
+        // then
+        assertThat(removed).isEqualTo("Value0");
+        assertThat(stringExample.containsKey(0)).isFalse();
+        assertThat(stringExample.size()).isEqualTo(initStringExampleSize - 1);
+        assertThat(stringExample.remove(0)).isNull();
+    }
+
+    @Test
+    void remove_AllKeys_ShouldKeepChainsReachable() {
+        // when
+        for (int i = 0; i < initStringExampleSize; i += 2) {
+            stringExample.remove(i);
+        }
+
+        // then
+        assertThat(stringExample.size()).isEqualTo(initStringExampleSize / 2);
+        for (int i = 0; i < initStringExampleSize; i++) {
+            assertThat(stringExample.get(i)).isEqualTo(i % 2 == 0 ? null : "Value" + i);
+        }
+    }
+
+    @Test
+    void putRemove_RandomKeys_ShouldMatchHashMap() {
+        // given
+        EvvIntObjectMap<Integer> map = new EvvIntObjectMap<>(4);
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // when
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(2000) - 1000; // небольшой диапазон ключей дает длинные цепочки и много удалений
+            if (random.nextBoolean()) {
+                assertThat(map.put(key, i)).isEqualTo(expected.put(key, i));
+            } else {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+            }
+        }
+
+        // then
+        assertThat(map.size()).isEqualTo(expected.size());
+        Map<Integer, Integer> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void clear_NormalFlow() {
+        // when
+        stringExample.clear();
+
+        // then
+        assertThat(stringExample.size()).isZero();
+        assertThat(stringExample.get(1)).isNull();
+        assertThat(stringExample.containsKey(0)).isFalse();
+    }
+}
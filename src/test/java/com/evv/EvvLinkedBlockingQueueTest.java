@@ -0,0 +1,152 @@
+package com.evv;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+
+class EvvLinkedBlockingQueueTest {
+
+    private EvvLinkedBlockingQueue<String> stringExample;
+
+    private static final int initStringExampleSize = 3;
+
+    private static final int CAPACITY = 5;
+
+    @BeforeEach
+    void prepareData() throws InterruptedException {
+        stringExample = new EvvLinkedBlockingQueue<>(CAPACITY);
+        stringExample.put("Java");
+        stringExample.put("Kotlin");
+        stringExample.put("Groovy");
+    }
+
+    @Test
+    void put_take_NormalFlow() throws InterruptedException {
+        // when
+        stringExample.put("Maven");
+        String javaResult = stringExample.take();
+        String kotlinResult = stringExample.take();
+
+        // then
+        assertThat(javaResult).isEqualTo("Java");
+        assertThat(kotlinResult).isEqualTo("Kotlin");
+        assertThat(stringExample.size()).isEqualTo(initStringExampleSize - 1);
+    }
+
+    @Test
+    void put_NullElement_ShouldThrowNullPointerException() {
+        // when
+        assertThatThrownBy(() -> stringExample.put(null))
+        // then
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void offer_FullQueue_ShouldReturnFalse() {
+        // given
+        stringExample.offer("Maven");
+        stringExample.offer("Gradle");
+        assertThat(stringExample.remainingCapacity()).isEqualTo(0);
+
+        // when
+        boolean result = stringExample.offer("JUnit");
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(stringExample.size()).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    void offerWithTimeout_FullQueue_ShouldReturnFalseAfterTimeout() throws InterruptedException {
+        // given
+        stringExample.put("Maven");
+        stringExample.put("Gradle");
+
+        // when
+        boolean result = stringExample.offer("JUnit", 10, TimeUnit.MILLISECONDS);
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(stringExample.size()).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    void pollWithTimeout_EmptyQueue_ShouldReturnNull() throws InterruptedException {
+        // given
+        stringExample = new EvvLinkedBlockingQueue<>(CAPACITY);
+
+        // when
+        String result = stringExample.poll(10, TimeUnit.MILLISECONDS);
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    void put_FullQueue_ShouldWaitForTake() throws InterruptedException {
+        // given
+        stringExample.put("Maven");
+        stringExample.put("Gradle");
+        Thread producer = new Thread(() -> {
+            try {
+                stringExample.put("JUnit");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+
+        // when
+        String result = stringExample.take();
+        producer.join(1000);
+
+        // then
+        assertThat(result).isEqualTo("Java");
+        assertThat(producer.isAlive()).isFalse();
+        assertThat(stringExample.size()).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    void drainTo_NormalFlow() {
+        // given
+        EvvLinkedList<String> target = new EvvLinkedList<>();
+
+        // when
+        int result = stringExample.drainTo(target, 2);
+
+        // then
+        assertThat(result).isEqualTo(2);
+        assertThat(target.size()).isEqualTo(2);
+        assertThat(target.get(0)).isEqualTo("Java");
+        assertThat(target.get(1)).isEqualTo("Kotlin");
+        assertThat(stringExample.size()).isEqualTo(initStringExampleSize - 2);
+    }
+
+    @Test
+    void drainTo_MaxElementsBiggerThenSize_ShouldDrainAll() {
+        // given
+        EvvLinkedList<String> target = new EvvLinkedList<>();
+
+        // when
+        int result = stringExample.drainTo(target, 100);
+
+        // then
+        assertThat(result).isEqualTo(initStringExampleSize);
+        assertThat(stringExample.size()).isEqualTo(0);
+        assertThat(stringExample.poll()).isNull();
+    }
+
+    @Test
+    void constructorTest_zeroCapacity_ShouldThrowIllegalArgumentException() {
+        // when
+        assertThatThrownBy(() -> new EvvLinkedBlockingQueue<String>(0))
+        // then
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Передан неверный размер очереди: 0");
+    }
+}
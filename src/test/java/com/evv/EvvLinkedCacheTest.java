@@ -0,0 +1,227 @@
+package com.evv;
+
+import com.evv.EvvLinkedCache.EvictionPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+
+class EvvLinkedCacheTest {
+
+    private EvvLinkedCache<String, Integer> lruExample;
+
+    private static final int MAXIMUM_SIZE = 3;
+
+    @BeforeEach
+    void prepareData() {
+        lruExample = new EvvLinkedCache<>(MAXIMUM_SIZE);
+        lruExample.put("Java", 1);
+        lruExample.put("Kotlin", 2);
+        lruExample.put("Groovy", 3);
+    }
+
+    @Test
+    void get_NormalFlow() {
+        // when
+        Integer javaResult = lruExample.get("Java");
+        Integer mavenResult = lruExample.get("Maven");
+
+        // then
+        assertThat(javaResult).isEqualTo(1);
+        assertThat(mavenResult).isNull();
+        assertThat(lruExample.getHitCount()).isEqualTo(1);
+        assertThat(lruExample.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void put_Lru_ShouldEvictLeastRecentlyUsed() {
+        // given
+        lruExample.get("Java"); // Java становится последним использованным, первым вытесняется Kotlin
+
+        // when
+        lruExample.put("Maven", 4);
+
+        // then
+        assertThat(lruExample.size()).isEqualTo(MAXIMUM_SIZE);
+        assertThat(lruExample.containsKey("Kotlin")).isFalse();
+        assertThat(lruExample.containsKey("Java")).isTrue();
+        assertThat(lruExample.containsKey("Maven")).isTrue();
+        assertThat(lruExample.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void put_ExistingKey_ShouldReplaceValue() {
+        // when
+        Integer result = lruExample.put("Kotlin", 20);
+
+        // then
+        assertThat(result).isEqualTo(2);
+        assertThat(lruExample.get("Kotlin")).isEqualTo(20);
+        assertThat(lruExample.size()).isEqualTo(MAXIMUM_SIZE);
+        assertThat(lruExample.getEvictionCount()).isEqualTo(0);
+    }
+
+    @Test
+    void remove_NormalFlow() {
+        // when
+        Integer result1 = lruExample.remove("Groovy");
+        Integer result2 = lruExample.remove("Groovy"); // второе удаление должно вернуть null
+
+        // then
+        assertThat(result1).isEqualTo(3);
+        assertThat(result2).isNull();
+        assertThat(lruExample.size()).isEqualTo(MAXIMUM_SIZE - 1);
+        assertThat(lruExample.getEvictionCount()).isEqualTo(0);
+    }
+
+    @Test
+    void put_WeightBounded_ShouldEvictUntilWeightFits() {
+        // given
+        EvvLinkedCache<String, String> cache = new EvvLinkedCache<>(10, EvictionPolicy.LRU, (k, v) -> v.length());
+        cache.put("a", "Java");
+        cache.put("b", "Kotlin");
+
+        // when
+        cache.put("c", "Groovy");
+
+        // then
+        assertThat(cache.containsKey("a")).isFalse();
+        assertThat(cache.containsKey("b")).isFalse();
+        assertThat(cache.containsKey("c")).isTrue();
+        assertThat(cache.weightedSize()).isEqualTo(6);
+        assertThat(cache.getEvictionCount()).isEqualTo(2);
+    }
+
+    @Test
+    void put_Lfu_ShouldEvictLeastFrequentlyUsed() {
+        // given
+        EvvLinkedCache<String, Integer> cache = new EvvLinkedCache<>(MAXIMUM_SIZE, EvictionPolicy.LFU);
+        cache.put("Java", 1);
+        cache.put("Kotlin", 2);
+        cache.put("Groovy", 3);
+        cache.get("Java");
+        cache.get("Java");
+        cache.get("Groovy");
+
+        // when
+        cache.put("Maven", 4);
+
+        // then
+        assertThat(cache.containsKey("Kotlin")).isFalse();
+        assertThat(cache.containsKey("Java")).isTrue();
+        assertThat(cache.containsKey("Groovy")).isTrue();
+        assertThat(cache.containsKey("Maven")).isTrue();
+    }
+
+    @Test
+    void put_Lfu_AfterEvictionOfMinFrequency_ShouldKeepWorking() {
+        // given
+        EvvLinkedCache<String, Integer> cache = new EvvLinkedCache<>(2, EvictionPolicy.LFU);
+        cache.put("Java", 1);
+        cache.get("Java");
+        cache.put("Kotlin", 2);
+        cache.put("Groovy", 3); // вытесняется Kotlin
+
+        // when
+        cache.put("Maven", 4); // вытесняется Groovy
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.containsKey("Java")).isTrue();
+        assertThat(cache.containsKey("Maven")).isTrue();
+    }
+
+    @Test
+    void put_Lfu_AllResidentKeysAccessed_ShouldAdmitNewKey() {
+        // given
+        EvvLinkedCache<String, Integer> cache = new EvvLinkedCache<>(2, EvictionPolicy.LFU);
+        cache.put("Java", 1);
+        cache.put("Kotlin", 2);
+        cache.get("Java");
+        cache.get("Kotlin");
+
+        // when
+        cache.put("Groovy", 3); // вытесняется Java, а не только что добавленный ключ
+
+        // then
+        assertThat(cache.get("Groovy")).isEqualTo(3);
+        assertThat(cache.containsKey("Java")).isFalse();
+        assertThat(cache.containsKey("Kotlin")).isTrue();
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void remove_Lfu_MinFrequencyKey_ShouldEvictNextLeastFrequent() {
+        // given
+        EvvLinkedCache<String, Integer> cache = new EvvLinkedCache<>(3, EvictionPolicy.LFU);
+        cache.put("Java", 1);
+        cache.put("Kotlin", 2);
+        cache.put("Groovy", 3);
+        cache.get("Kotlin");
+        cache.get("Groovy");
+        cache.get("Groovy");
+        cache.remove("Java"); // группа с наименьшим количеством обращений опустела
+
+        // when
+        cache.put("Maven", 4);
+        cache.get("Maven");
+        cache.get("Maven");
+        cache.get("Maven");
+        cache.put("Gradle", 5); // вытесняется Kotlin с двумя обращениями
+
+        // then
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.containsKey("Kotlin")).isFalse();
+        assertThat(cache.containsKey("Groovy")).isTrue();
+        assertThat(cache.containsKey("Maven")).isTrue();
+        assertThat(cache.containsKey("Gradle")).isTrue();
+    }
+
+    @Test
+    void put_TinyLfu_ShouldKeepFrequentlyUsedOverOneHitWonders() {
+        // given
+        int maximumSize = 100;
+        EvvLinkedCache<Integer, Integer> cache = new EvvLinkedCache<>(maximumSize, EvictionPolicy.W_TINY_LFU);
+        for (int round = 0; round < 5; round++) {
+            for (int key = 0; key < maximumSize / 2; key++) {
+                if (cache.get(key) == null) {
+                    cache.put(key, key);
+                }
+            }
+        }
+
+        // when
+        for (int key = 1000; key < 2000; key++) { // разовые обращения не должны вытеснить популярные ключи
+            cache.put(key, key);
+        }
+
+        // then
+        int hotKeysLeft = 0;
+        for (int key = 0; key < maximumSize / 2; key++) {
+            if (cache.containsKey(key)) {
+                hotKeysLeft++;
+            }
+        }
+        assertThat(cache.size()).isEqualTo(maximumSize);
+        assertThat(hotKeysLeft).isGreaterThan(maximumSize / 4);
+    }
+
+    @Test
+    void put_NullValue_ShouldThrowNullPointerException() {
+        // when
+        assertThatThrownBy(() -> lruExample.put("Maven", null))
+        // then
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructorTest_NegativeSize_ShouldThrowIllegalArgumentException() {
+        // when
+        assertThatThrownBy(() -> new EvvLinkedCache<String, Integer>(-1))
+        // then
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Передан неверный максимальный вес кэша: -1");
+    }
+}
@@ -3,6 +3,12 @@ package com.evv;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ConcurrentModificationException;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -112,6 +118,30 @@ class EvvLinkedListTest {
         assertThat(result).isFalse();
     }
 
+    @Test
+    void removeFirst_NormalFlow() {
+        // when
+        String result1 = stringExample.removeFirst();
+        String result2 = stringExample.removeFirst();
+
+        // then
+        assertThat(result1).isEqualTo("Java");
+        assertThat(result2).isEqualTo("Kotlin");
+        assertThat(stringExample.size()).isEqualTo(initStringExampleSize - 2);
+        assertThat(stringExample.get(0)).isEqualTo("Groovy");
+    }
+
+    @Test
+    void removeFirst_FromEmptyList_ShouldThrowNoSuchElementException() {
+        // given
+        stringExample = new EvvLinkedList<>();
+
+        // when
+        assertThatThrownBy(() -> stringExample.removeFirst())
+        // then
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
     @Test
     void get_NormalFlow() {
         // when
@@ -331,4 +361,322 @@ class EvvLinkedListTest {
         // then
         assertThat(result1).isNotEqualTo(result2);
     }
-}
\ No newline at end of file
+
+    @Test
+    void iterator_NormalFlow() {
+        // given
+        StringBuilder result = new StringBuilder();
+
+        // when
+        for (String elem : stringExample) {
+            result.append(elem).append(' ');
+        }
+
+        // then
+        assertThat(result.toString()).isEqualTo("Java Kotlin Groovy Maven Gradle JUnit Spring ");
+    }
+
+    @Test
+    void listIterator_RemoveWhileIterating_ShouldFilterInPlace() {
+        // given
+        ListIterator<String> cursor = stringExample.listIterator();
+
+        // when
+        while (cursor.hasNext()) {
+            if (cursor.next().startsWith("J")) {
+                cursor.remove();
+            }
+        }
+
+        // then
+        assertThat(stringExample.size()).isEqualTo(initStringExampleSize - 2);
+        assertThat(stringExample.get(0)).isEqualTo("Kotlin");
+        assertThat(stringExample.get(initStringExampleSize - 3)).isEqualTo("Spring");
+    }
+
+    @Test
+    void listIterator_AddAndSet_NormalFlow() {
+        // given
+        ListIterator<String> cursor = stringExample.listIterator(2);
+
+        // when
+        cursor.add("Scala");
+        String mavenResult = cursor.next();
+        cursor.set("Ant");
+
+        // then
+        assertThat(mavenResult).isEqualTo("Groovy");
+        assertThat(stringExample.size()).isEqualTo(initStringExampleSize + 1);
+        assertThat(stringExample.get(2)).isEqualTo("Scala");
+        assertThat(stringExample.get(3)).isEqualTo("Ant");
+        assertThat(cursor.nextIndex()).isEqualTo(4);
+    }
+
+    @Test
+    void listIterator_AddAtEndAndHead_ShouldRelinkHeadAndTail() {
+        // given
+        ListIterator<String> tailCursor = stringExample.listIterator(initStringExampleSize);
+        tailCursor.add("Hibernate");
+        ListIterator<String> headCursor = stringExample.listIterator();
+
+        // when
+        headCursor.add("Mockito");
+
+        // then
+        assertThat(stringExample.size()).isEqualTo(initStringExampleSize + 2);
+        assertThat(stringExample.get(0)).isEqualTo("Mockito");
+        assertThat(stringExample.get(initStringExampleSize + 1)).isEqualTo("Hibernate");
+    }
+
+    @Test
+    void listIterator_Previous_ShouldWalkBackwardAndRemove() {
+        // given
+        ListIterator<String> cursor = stringExample.listIterator(initStringExampleSize);
+
+        // when
+        String springResult = cursor.previous();
+        cursor.remove();
+        String jUnitResult = cursor.previous();
+
+        // then
+        assertThat(springResult).isEqualTo("Spring");
+        assertThat(jUnitResult).isEqualTo("JUnit");
+        assertThat(cursor.hasNext()).isTrue();
+        assertThat(stringExample.size()).isEqualTo(initStringExampleSize - 1);
+    }
+
+    @Test
+    void listIterator_RemoveWithoutNext_ShouldThrowIllegalStateException() {
+        // given
+        ListIterator<String> cursor = stringExample.listIterator();
+
+        // when
+        assertThatThrownBy(cursor::remove)
+        // then
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void listIterator_ListModifiedOutside_ShouldThrowConcurrentModificationException() {
+        // given
+        ListIterator<String> cursor = stringExample.listIterator();
+        cursor.next();
+        stringExample.add("Hibernate");
+
+        // when
+        assertThatThrownBy(cursor::next)
+        // then
+                .isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    void listIterator_TooBigIndex_ShouldThrowIndexOutOfBoundsException() {
+        // when
+        assertThatThrownBy(() -> stringExample.listIterator(8))
+        // then
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .hasMessageContaining("Index 8 out of bounds for length 8");
+    }
+
+    @Test
+    void appendAll_NormalFlow() {
+        // given
+        EvvLinkedList<String> stringExample2 = new EvvLinkedList<>();
+        stringExample2.add("Hibernate");
+        stringExample2.add("Mockito");
+
+        // when
+        stringExample.appendAll(stringExample2);
+        stringExample.add("Liquibase");
+
+        // then
+        assertThat(stringExample.size()).isEqualTo(initStringExampleSize + 3);
+        assertThat(stringExample.get(initStringExampleSize)).isEqualTo("Hibernate");
+        assertThat(stringExample.get(initStringExampleSize + 2)).isEqualTo("Liquibase");
+        assertThat(stringExample2.size()).isEqualTo(0);
+    }
+
+    @Test
+    void appendAll_ToEmptyList_ShouldTakeAllElements() {
+        // given
+        EvvLinkedList<String> stringExample2 = new EvvLinkedList<>();
+
+        // when
+        stringExample2.appendAll(stringExample);
+
+        // then
+        assertThat(stringExample2.size()).isEqualTo(initStringExampleSize);
+        assertThat(stringExample2.get(0)).isEqualTo("Java");
+        assertThat(stringExample2.get(initStringExampleSize - 1)).isEqualTo("Spring");
+        assertThat(stringExample.size()).isEqualTo(0);
+    }
+
+    @Test
+    void appendAll_ItSelf_ShouldThrowIllegalArgumentException() {
+        // when
+        assertThatThrownBy(() -> stringExample.appendAll(stringExample))
+        // then
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void prependAll_NormalFlow() {
+        // given
+        EvvLinkedList<String> stringExample2 = new EvvLinkedList<>();
+        stringExample2.add("Hibernate");
+        stringExample2.add("Mockito");
+
+        // when
+        stringExample.prependAll(stringExample2);
+
+        // then
+        assertThat(stringExample.size()).isEqualTo(initStringExampleSize + 2);
+        assertThat(stringExample.get(0)).isEqualTo("Hibernate");
+        assertThat(stringExample.get(1)).isEqualTo("Mockito");
+        assertThat(stringExample.get(2)).isEqualTo("Java");
+        assertThat(stringExample2.size()).isEqualTo(0);
+    }
+
+    @Test
+    void splitAt_NormalFlow() {
+        // when
+        EvvLinkedList<String> result = stringExample.splitAt(4);
+        stringExample.add("Hibernate");
+
+        // then
+        assertThat(stringExample.size()).isEqualTo(5);
+        assertThat(stringExample.get(3)).isEqualTo("Maven");
+        assertThat(stringExample.get(4)).isEqualTo("Hibernate");
+        assertThat(result.size()).isEqualTo(3);
+        assertThat(result.get(0)).isEqualTo("Gradle");
+        assertThat(result.get(2)).isEqualTo("Spring");
+    }
+
+    @Test
+    void splitAt_HeadAndEnd_ShouldMoveAllOrNothing() {
+        // when
+        EvvLinkedList<String> emptyResult = stringExample.splitAt(initStringExampleSize);
+        EvvLinkedList<String> fullResult = stringExample.splitAt(0);
+
+        // then
+        assertThat(emptyResult.size()).isEqualTo(0);
+        assertThat(fullResult.size()).isEqualTo(initStringExampleSize);
+        assertThat(stringExample.size()).isEqualTo(0);
+    }
+
+    @Test
+    void splitAt_TooBigIndex_ShouldThrowIndexOutOfBoundsException() {
+        // when
+        assertThatThrownBy(() -> stringExample.splitAt(8))
+        // then
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .hasMessageContaining("Index 8 out of bounds for length 8");
+    }
+
+    @Test
+    void indexOf_NormalFlow() {
+        // then
+        assertThat(stringExample.indexOf("Groovy")).isEqualTo(2);
+        assertThat(stringExample.indexOf("Scala")).isEqualTo(-1);
+        assertThat(stringExample.parallelIndexOf("Spring")).isEqualTo(6);
+        assertThat(stringExample.parallelIndexOf(null)).isEqualTo(-1);
+    }
+
+    @Test
+    void parallelIndexOf_LargeList_ShouldFindFirstOccurrence() {
+        // given
+        EvvLinkedList<Integer> list = largeList(5 * EvvLinkedList.CHECKPOINT_STEP + 17);
+        list.set(4 * EvvLinkedList.CHECKPOINT_STEP + 3, 7); // второе вхождение 7 в последнем участке
+
+        // when
+        int index = list.parallelIndexOf(7);
+
+        // then
+        assertThat(index).isEqualTo(7);
+        int last = 5 * EvvLinkedList.CHECKPOINT_STEP + 16;
+        assertThat(list.parallelIndexOf(last)).isEqualTo(last);
+        assertThat(list.parallelIndexOf(-1)).isEqualTo(-1);
+    }
+
+    @Test
+    void parallelIndexOf_AfterStructuralChanges_ShouldRebuildCheckpoints() {
+        // given
+        EvvLinkedList<Integer> list = largeList(3 * EvvLinkedList.CHECKPOINT_STEP);
+        list.parallelIndexOf(0); // строит опорные ячейки
+
+        // when
+        list.removeFirst();                         // сдвигает индексы
+        list.add(-5);                               // поддерживается без перестроения
+        list.listIterator(10).add(-10);             // вставка в середину
+
+        // then
+        assertThat(list.parallelIndexOf(-10)).isEqualTo(10);
+        assertThat(list.parallelIndexOf(EvvLinkedList.CHECKPOINT_STEP)).isEqualTo(EvvLinkedList.CHECKPOINT_STEP);
+        assertThat(list.parallelIndexOf(-5)).isEqualTo(list.size() - 1);
+    }
+
+    @Test
+    void parallelHashCode_ShouldMatchHashCode() {
+        // given
+        EvvLinkedList<Integer> list = largeList(3 * EvvLinkedList.CHECKPOINT_STEP + 100);
+        list.set(5, null);
+
+        // then
+        assertThat(list.parallelHashCode()).isEqualTo(list.hashCode());
+        assertThat(stringExample.parallelHashCode()).isEqualTo(stringExample.hashCode());
+        assertThat(new EvvLinkedList<String>().parallelHashCode()).isEqualTo(1);
+    }
+
+    @Test
+    void spliterator_ShouldSplitAtCheckpoints() {
+        // given
+        EvvLinkedList<Integer> list = largeList(4 * EvvLinkedList.CHECKPOINT_STEP);
+
+        // when
+        Spliterator<Integer> suffix = list.spliterator();
+        Spliterator<Integer> prefix = suffix.trySplit();
+
+        // then
+        assertThat(prefix).isNotNull();
+        assertThat(prefix.estimateSize()).isEqualTo(2L * EvvLinkedList.CHECKPOINT_STEP);
+        assertThat(suffix.estimateSize()).isEqualTo(2L * EvvLinkedList.CHECKPOINT_STEP);
+        suffix.tryAdvance(elem -> assertThat(elem).isEqualTo(2 * EvvLinkedList.CHECKPOINT_STEP));
+        assertThat(stringExample.spliterator().trySplit()).isNull();
+    }
+
+    @Test
+    void parallelStream_ShouldKeepOrder() {
+        // given
+        EvvLinkedList<Integer> list = largeList(10 * EvvLinkedList.CHECKPOINT_STEP + 1);
+
+        // when
+        long sum = list.parallelStream().mapToLong(Integer::longValue).sum();
+        String joined = stringExample.parallelStream().collect(Collectors.joining(","));
+
+        // then
+        assertThat(sum).isEqualTo((long) list.size() * (list.size() - 1) / 2);
+        assertThat(joined).isEqualTo("Java,Kotlin,Groovy,Maven,Gradle,JUnit,Spring");
+        assertThat(list.stream().skip(5).findFirst()).contains(5);
+    }
+
+    @Test
+    void spliterator_ModifiedDuringTraversal_ShouldThrowException() {
+        // given
+        Spliterator<String> spliterator = stringExample.spliterator();
+
+        // when
+        stringExample.add("Hibernate");
+
+        // then
+        assertThatThrownBy(() -> spliterator.tryAdvance(elem -> {
+        })).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    private static EvvLinkedList<Integer> largeList(int size) {
+        EvvLinkedList<Integer> list = new EvvLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,247 @@
+package com.evv;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+class EvvListDiffTest {
+
+    private EvvArrayList<Integer> firstExample;
+
+    private EvvArrayList<Integer> secondExample;
+
+    private static final int initExampleSize = 1000;
+
+    @BeforeEach
+    void prepareData() {
+        firstExample = new EvvArrayList<>();
+        secondExample = new EvvArrayList<>();
+        for (int i = 0; i < initExampleSize; i++) {
+            firstExample.add(i);
+            secondExample.add(i);
+        }
+    }
+
+    @Test
+    void diffRanges_EqualLists_ShouldReturnEmptyList() {
+        // when
+        EvvArrayList<EvvListDiff.Range> ranges = EvvListDiff.diffRanges(firstExample, secondExample);
+
+        // then
+        assertThat(ranges.size()).isZero();
+    }
+
+    @Test
+    void diffRanges_NormalFlow() {
+        // given
+        EvvListDiff.diffRanges(firstExample, secondExample); // хеши блоков кэшируются
+
+        // when
+        secondExample.set(3, -1);
+        secondExample.set(4, -1);
+        secondExample.set(500, -1);
+        secondExample.set(63, -1);  // последний элемент блока
+        secondExample.set(64, -1);  // первый элемент следующего блока
+        EvvArrayList<EvvListDiff.Range> ranges = EvvListDiff.diffRanges(firstExample, secondExample);
+
+        // then
+        assertThat(ranges.size()).isEqualTo(3);
+        assertThat(ranges.get(0)).isEqualTo(new EvvListDiff.Range(3, 5));
+        assertThat(ranges.get(1)).isEqualTo(new EvvListDiff.Range(63, 65));
+        assertThat(ranges.get(2).toString()).isEqualTo("[500, 501)");
+    }
+
+    @Test
+    void diffRanges_DifferentSizes_ShouldReportTail() {
+        // given
+        secondExample.removeRange(990, initExampleSize);
+        secondExample.set(989, -1);
+
+        // when
+        EvvArrayList<EvvListDiff.Range> ranges = EvvListDiff.diffRanges(firstExample, secondExample);
+
+        // then
+        assertThat(ranges.size()).isEqualTo(1);
+        assertThat(ranges.get(0)).isEqualTo(new EvvListDiff.Range(989, initExampleSize));
+    }
+
+    @Test
+    void diffRanges_InsertAfterCaching_ShouldInvalidateFollowingBlocks() {
+        // given
+        EvvListDiff.diffRanges(firstExample, secondExample);
+
+        // when
+        secondExample.add(900, -1);
+        secondExample.remove(initExampleSize);
+        EvvArrayList<EvvListDiff.Range> ranges = EvvListDiff.diffRanges(firstExample, secondExample);
+
+        // then
+        assertThat(ranges.size()).isEqualTo(1);
+        assertThat(ranges.get(0)).isEqualTo(new EvvListDiff.Range(900, initExampleSize));
+    }
+
+    @Test
+    void diffRanges_LinkedLists_NormalFlow() {
+        // given
+        EvvLinkedList<Integer> first = firstExample.view().toLinkedList();
+        EvvLinkedList<Integer> second = secondExample.view().toLinkedList();
+        EvvListDiff.diffRanges(first, second);
+
+        // when
+        second.set(700, null);
+        second.add(5);
+        EvvArrayList<EvvListDiff.Range> ranges = EvvListDiff.diffRanges(first, second);
+        second.removeFirst();
+        EvvArrayList<EvvListDiff.Range> shiftedRanges = EvvListDiff.diffRanges(first, second);
+
+        // then
+        assertThat(ranges.size()).isEqualTo(2);
+        assertThat(ranges.get(0)).isEqualTo(new EvvListDiff.Range(700, 701));
+        assertThat(ranges.get(1)).isEqualTo(new EvvListDiff.Range(initExampleSize, initExampleSize + 1));
+        assertThat(shiftedRanges.size()).isEqualTo(1);
+        assertThat(shiftedRanges.get(0)).isEqualTo(new EvvListDiff.Range(0, initExampleSize));
+    }
+
+    @Test
+    void editScript_NormalFlow() {
+        // given
+        secondExample.remove(10);
+        secondExample.add(20, -1);
+        secondExample.set(800, -2);
+
+        // when
+        EvvArrayList<EvvListChange<Integer>> script = EvvListDiff.editScript(firstExample, secondExample);
+
+        // then
+        assertThat(script.size()).isEqualTo(4); // удаление, вставка и замена как удаление со вставкой
+        assertThat(script.get(0).getOperation()).isEqualTo(EvvListChange.Operation.REMOVE);
+        assertThat(script.get(0).getIndex()).isEqualTo(10);
+        assertThat(applyScript(firstExample, script)).isEqualTo(secondExample);
+    }
+
+    @Test
+    void editScript_EqualLists_ShouldReturnEmptyScript() {
+        // then
+        assertThat(EvvListDiff.editScript(firstExample, secondExample).size()).isZero();
+        assertThat(EvvListDiff.editScript(new EvvArrayList<Integer>(), new EvvArrayList<Integer>()).size()).isZero();
+    }
+
+    @Test
+    void editScript_ConsecutiveRemovals_ShouldBeMerged() {
+        // given
+        secondExample.removeRange(100, 150);
+
+        // when
+        EvvArrayList<EvvListChange<Integer>> script = EvvListDiff.editScript(firstExample, secondExample);
+
+        // then
+        assertThat(script.size()).isEqualTo(1);
+        assertThat(script.get(0).getIndex()).isEqualTo(100);
+        assertThat(script.get(0).getCount()).isEqualTo(50);
+    }
+
+    @Test
+    void editScript_RandomEdits_ShouldTransformFirstIntoSecond() {
+        // given
+        Random random = new Random(42);
+        for (int round = 0; round < 20; round++) {
+            EvvArrayList<Integer> first = randomList(random, random.nextInt(300));
+            EvvArrayList<Integer> second = randomList(random, random.nextInt(300));
+
+            // when
+            EvvArrayList<EvvListChange<Integer>> script = EvvListDiff.editScript(first, second);
+            EvvArrayList<EvvListChange<Integer>> linkedScript = EvvListDiff.editScript(
+                    first.view().toLinkedList(), second.view().toLinkedList());
+
+            // then
+            assertThat(applyScript(first, script)).isEqualTo(second);
+            assertThat(applyScript(first, linkedScript)).isEqualTo(second);
+        }
+    }
+
+    @Test
+    void editScript_EditNearFront_ShouldTrimCommonSuffix() {
+        // given
+        secondExample.set(5, -1);
+        secondExample.add(7, -2);
+        EvvLinkedList<Integer> first = firstExample.view().toLinkedList();
+        EvvLinkedList<Integer> second = secondExample.view().toLinkedList();
+
+        // when
+        EvvArrayList<EvvListChange<Integer>> script = EvvListDiff.editScript(firstExample, secondExample);
+        EvvArrayList<EvvListChange<Integer>> linkedScript = EvvListDiff.editScript(first, second);
+
+        // then
+        assertThat(script.size()).isEqualTo(3);
+        assertThat(script.get(0).getIndex()).isEqualTo(5);
+        assertThat(script.get(2).getIndex()).isEqualTo(7);
+        assertThat(applyScript(firstExample, script)).isEqualTo(secondExample);
+        assertThat(applyScript(firstExample, linkedScript)).isEqualTo(secondExample);
+    }
+
+    @Test
+    void editScript_EqualBlockHashes_ShouldCompareElements() {
+        // given
+        EvvArrayList<String> first = new EvvArrayList<>();
+        EvvArrayList<String> second = new EvvArrayList<>();
+        for (int i = 0; i < EvvBlockHashCache.BLOCK_SIZE; i++) {
+            first.add("x" + i);
+            second.add("x" + i);
+        }
+        first.set(10, "Aa");
+        second.set(10, "BB"); // "Aa".hashCode() == "BB".hashCode(), хеши блоков совпадают
+
+        // when
+        EvvArrayList<EvvListChange<String>> script = EvvListDiff.editScript(first, second);
+        EvvArrayList<EvvListChange<String>> linkedScript = EvvListDiff.editScript(
+                first.view().toLinkedList(), second.view().toLinkedList());
+
+        // then
+        assertThat(script.size()).isEqualTo(2);
+        assertThat(script.get(0).getIndex()).isEqualTo(10);
+        assertThat(applyScript(first, script)).isEqualTo(second);
+        assertThat(applyScript(first, linkedScript)).isEqualTo(second);
+    }
+
+    @Test
+    void editScript_DistanceAboveLimit_ShouldReplaceMiddle() {
+        // given
+        int middle = EvvListDiff.MAX_EDIT_DISTANCE; // замена каждого элемента - две правки
+        EvvArrayList<Integer> first = new EvvArrayList<>();
+        EvvArrayList<Integer> second = new EvvArrayList<>();
+        for (int i = 0; i < middle + 200; i++) {
+            first.add(i);
+            second.add(i >= 100 && i < 100 + middle ? -i : i);
+        }
+
+        // when
+        EvvArrayList<EvvListChange<Integer>> script = EvvListDiff.editScript(first, second);
+
+        // then
+        assertThat(script.size()).isEqualTo(middle + 1);
+        assertThat(script.get(0).getOperation()).isEqualTo(EvvListChange.Operation.REMOVE);
+        assertThat(script.get(0).getIndex()).isEqualTo(100);
+        assertThat(script.get(0).getCount()).isEqualTo(middle);
+        assertThat(applyScript(first, script)).isEqualTo(second);
+    }
+
+    private static EvvArrayList<Integer> randomList(Random random, int size) {
+        EvvArrayList<Integer> list = new EvvArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(random.nextInt(5)); // малый алфавит дает много совпадений
+        }
+        return list;
+    }
+
+    private static <T> EvvArrayList<T> applyScript(EvvArrayList<T> list, EvvArrayList<EvvListChange<T>> script) {
+        EvvArrayList<T> copy = list.view().toArrayList();
+        for (int i = 0; i < script.size(); i++) {
+            script.get(i).applyTo(copy);
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,140 @@
+package com.evv;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+
+class EvvListViewTest {
+
+    private EvvArrayList<String> stringExample;
+
+    private EvvLinkedList<String> linkedExample;
+
+    private static final int initStringExampleSize = 7;
+
+    @BeforeEach
+    void prepareData() {
+        stringExample = new EvvArrayList<>();
+        linkedExample = new EvvLinkedList<>();
+        String[] names = {"Java", "Kotlin", "Groovy", "Maven", "Gradle", "JUnit", "Spring"};
+        for (String name : names) {
+            stringExample.add(name);
+            linkedExample.add(name);
+        }
+    }
+
+    @Test
+    void filterMapLimit_NormalFlow() {
+        // when
+        EvvArrayList<Integer> result = stringExample.view()
+                .filter(elem -> elem.length() > 4)
+                .map(String::length)
+                .limit(3)
+                .toArrayList();
+
+        // then
+        assertThat(result.size()).isEqualTo(3);
+        assertThat(result.get(0)).isEqualTo(6); // Kotlin
+        assertThat(result.get(1)).isEqualTo(6); // Groovy
+        assertThat(result.get(2)).isEqualTo(5); // Maven
+    }
+
+    @Test
+    void limit_ShouldStopTraversalEarly() {
+        // given
+        int[] visited = {0};
+
+        // when
+        int result = stringExample.view()
+                .map(elem -> {
+                    visited[0]++;
+                    return elem;
+                })
+                .limit(2)
+                .count();
+
+        // then
+        assertThat(result).isEqualTo(2);
+        assertThat(visited[0]).isEqualTo(2);
+    }
+
+    @Test
+    void skip_NormalFlow() {
+        // when
+        EvvLinkedList<String> result = linkedExample.view().skip(5).toLinkedList();
+
+        // then
+        assertThat(result.size()).isEqualTo(2);
+        assertThat(result.get(0)).isEqualTo("JUnit");
+        assertThat(result.get(1)).isEqualTo("Spring");
+    }
+
+    @Test
+    void linkedListView_NormalFlow() {
+        // when
+        EvvArrayList<String> result = linkedExample.view()
+                .filter(elem -> elem.startsWith("G"))
+                .map(String::toUpperCase)
+                .toArrayList();
+
+        // then
+        assertThat(result.size()).isEqualTo(2);
+        assertThat(result.get(0)).isEqualTo("GROOVY");
+        assertThat(result.get(1)).isEqualTo("GRADLE");
+    }
+
+    @Test
+    void anyMatch_NormalFlow() {
+        // when
+        boolean mavenResult = stringExample.view().anyMatch("Maven"::equals);
+        boolean antResult = stringExample.view().anyMatch("Ant"::equals);
+
+        // then
+        assertThat(mavenResult).isTrue();
+        assertThat(antResult).isFalse();
+    }
+
+    @Test
+    void reduce_NormalFlow() {
+        // when
+        Integer result = stringExample.view().map(String::length).reduce(0, Integer::sum);
+
+        // then
+        assertThat(result).isEqualTo(38);
+    }
+
+    @Test
+    void view_ShouldReflectCurrentListContent() {
+        // given
+        EvvListView<String> view = stringExample.view().filter(elem -> elem.startsWith("H"));
+
+        // when
+        stringExample.add("Hibernate");
+
+        // then
+        assertThat(view.count()).isEqualTo(1);
+    }
+
+    @Test
+    void limit_NegativeSize_ShouldThrowIllegalArgumentException() {
+        // when
+        assertThatThrownBy(() -> stringExample.view().limit(-1))
+        // then
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Передано неверное количество элементов: -1");
+    }
+
+    @Test
+    void toArrayList_WithoutFilter_ShouldKeepAllElements() {
+        // when
+        EvvArrayList<String> result = stringExample.view().toArrayList();
+        result.add("Hibernate");
+
+        // then
+        assertThat(result.size()).isEqualTo(initStringExampleSize + 1);
+        assertThat(result.get(initStringExampleSize)).isEqualTo("Hibernate");
+    }
+}
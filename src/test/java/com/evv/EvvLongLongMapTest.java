@@ -0,0 +1,123 @@
+package com.evv;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+
+class EvvLongLongMapTest {
+
+    private EvvLongLongMap longExample;
+
+    private final int initLongExampleSize = 1000;
+
+    @BeforeEach
+    void prepareData() {
+        longExample = new EvvLongLongMap();
+        for (long i = 0; i < initLongExampleSize; i++) {
+            longExample.put(i << 32, i * 10); // ключи различаются только старшими битами
+        }
+    }
+
+    @Test
+    void constructor_NegativeSize_ShouldThrowException() {
+        assertThatThrownBy(() -> new EvvLongLongMap(-5))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Передан неверный размер таблицы: -5");
+    }
+
+    @Test
+    void get_NormalFlow() {
+        // then
+        assertThat(longExample.size()).isEqualTo(initLongExampleSize);
+        assertThat(longExample.get(0L)).isZero();
+        assertThat(longExample.containsKey(0L)).isTrue();
+        assertThat(longExample.get(500L << 32)).isEqualTo(5000L);
+        assertThat(longExample.get(500L)).isZero();
+        assertThat(longExample.containsKey(500L)).isFalse();
+        assertThat(longExample.getOrDefault(500L, -1L)).isEqualTo(-1L);
+    }
+
+    @Test
+    void put_ExistingKey_ShouldReplaceValue() {
+        // when
+        long oldValue = longExample.put(3L << 32, 77L);
+
+        // then
+        assertThat(oldValue).isEqualTo(30L);
+        assertThat(longExample.get(3L << 32)).isEqualTo(77L);
+        assertThat(longExample.size()).isEqualTo(initLongExampleSize);
+    }
+
+    @Test
+    void addTo_NormalFlow() {
+        // given
+        EvvLongLongMap map = new EvvLongLongMap();
+
+        // when
+        map.addTo(10L, 5L);
+        long result = map.addTo(10L, 7L);
+        map.addTo(0L, -3L);
+
+        // then
+        assertThat(result).isEqualTo(12L);
+        assertThat(map.get(10L)).isEqualTo(12L);
+        assertThat(map.get(0L)).isEqualTo(-3L);
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @Test
+    void remove_NormalFlow() {
+        // when
+        long removed = longExample.remove(9L << 32);
+
+        // then
+        assertThat(removed).isEqualTo(90L);
+        assertThat(longExample.containsKey(9L << 32)).isFalse();
+        assertThat(longExample.size()).isEqualTo(initLongExampleSize - 1);
+        assertThat(longExample.remove(9L << 32)).isZero();
+    }
+
+    @Test
+    void putRemove_RandomKeys_ShouldMatchHashMap() {
+        // given
+        EvvLongLongMap map = new EvvLongLongMap(4);
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(7);
+
+        // when
+        for (int i = 0; i < 100_000; i++) {
+            long key = (random.nextInt(2000) - 1000) * 0x1_0000_0001L;
+            if (random.nextBoolean()) {
+                assertThat(map.put(key, i)).isEqualTo(expected.getOrDefault(key, 0L));
+                expected.put(key, (long) i);
+            } else {
+                assertThat(map.remove(key)).isEqualTo(expected.getOrDefault(key, 0L));
+                expected.remove(key);
+            }
+        }
+
+        // then
+        assertThat(map.size()).isEqualTo(expected.size());
+        Map<Long, Long> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void clear_NormalFlow() {
+        // when
+        longExample.clear();
+
+        // then
+        assertThat(longExample.size()).isZero();
+        assertThat(longExample.containsKey(0L)).isFalse();
+        assertThat(longExample.get(1L << 32)).isZero();
+    }
+}
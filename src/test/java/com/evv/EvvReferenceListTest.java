@@ -0,0 +1,164 @@
+package com.evv;
+
+import com.evv.EvvReferenceList.ReferenceType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+
+class EvvReferenceListTest {
+
+    private EvvReferenceList<String> stringExample;
+
+    /**
+     * Сильные ссылки на элементы, удерживающие их от сборки мусора
+     */
+    private String[] strongRefs;
+
+    private static final int initStringExampleSize = 5;
+
+    @BeforeEach
+    void prepareData() {
+        stringExample = new EvvReferenceList<>();
+        strongRefs = new String[initStringExampleSize];
+        String[] names = {"Java", "Kotlin", "Groovy", "Maven", "Gradle"};
+        for (int i = 0; i < initStringExampleSize; i++) {
+            strongRefs[i] = new String(names[i]); // новые объекты, а не строки из пула
+            stringExample.add(strongRefs[i]);
+        }
+    }
+
+    @Test
+    void add_get_NormalFlow() {
+        // then
+        assertThat(stringExample.size()).isEqualTo(initStringExampleSize);
+        assertThat(stringExample.get(0)).isEqualTo("Java");
+        assertThat(stringExample.get(4)).isEqualTo("Gradle");
+    }
+
+    @Test
+    void add_NullElement_ShouldThrowNullPointerException() {
+        // when
+        assertThatThrownBy(() -> stringExample.add(null))
+        // then
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void remove_NormalFlow() {
+        // when
+        boolean result1 = stringExample.remove("Maven");
+        boolean result2 = stringExample.remove("Maven"); // второе удаление должно быть false
+
+        // then
+        assertThat(result1).isTrue();
+        assertThat(result2).isFalse();
+        assertThat(stringExample.size()).isEqualTo(initStringExampleSize - 1);
+        assertThat(stringExample.get(3)).isEqualTo("Gradle");
+    }
+
+    @Test
+    void size_ElementsCollected_ShouldReflectLiveEntries() {
+        // given
+        strongRefs[1] = null;
+        strongRefs[3] = null;
+
+        // when
+        int result = waitForSize(initStringExampleSize - 2);
+
+        // then
+        assertThat(result).isEqualTo(initStringExampleSize - 2);
+        assertThat(stringExample.get(0)).isEqualTo("Java");
+        assertThat(stringExample.get(1)).isEqualTo("Groovy"); // ячейки собранных элементов удалены сжатием
+        assertThat(stringExample.get(2)).isEqualTo("Gradle");
+    }
+
+    @Test
+    void iterator_ShouldSkipCollectedElements() {
+        // given
+        strongRefs[0] = null;
+        waitForSize(initStringExampleSize - 1);
+        Iterator<String> iterator = stringExample.iterator();
+
+        // when
+        int count = 0;
+        while (iterator.hasNext()) {
+            assertThat(iterator.next()).isNotEqualTo("Java");
+            count++;
+        }
+
+        // then
+        assertThat(count).isEqualTo(initStringExampleSize - 1);
+    }
+
+    @Test
+    void remove_NullElement_ShouldThrowNullPointerException() {
+        assertThatThrownBy(() -> stringExample.remove(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void remove_CollectedSlotPending_ShouldKeepSizeConsistent() {
+        // given
+        String[] moreRefs = new String[15];
+        for (int i = 0; i < moreRefs.length; i++) {
+            moreRefs[i] = new String("Value" + i);
+            stringExample.add(moreRefs[i]);
+        }
+        strongRefs[1] = null; // одна собранная ячейка из 20 не вызывает сжатия
+
+        // when
+        int sizeAfterGc = waitForSize(19);
+        boolean removed = stringExample.remove("Unknown");
+
+        // then
+        assertThat(sizeAfterGc).isEqualTo(19);
+        assertThat(removed).isFalse();
+        assertThat(stringExample.size()).isEqualTo(19);
+        assertThat(stringExample.slotCount()).isEqualTo(20);
+        assertThat(stringExample.get(1)).isNull();
+        assertThat(stringExample.get(19)).isEqualTo("Value14");
+        assertThat(moreRefs).hasSize(15); // удерживает элементы от сборки до конца теста
+    }
+
+    @Test
+    void slotCount_NoCollectedElements_ShouldEqualSize() {
+        // when
+        int slots = stringExample.slotCount();
+
+        // then
+        assertThat(slots).isEqualTo(stringExample.size());
+        for (int i = 0; i < slots; i++) {
+            assertThat(stringExample.get(i)).isEqualTo(strongRefs[i]);
+        }
+    }
+
+    @Test
+    void softReferences_ShouldKeepElementsWithoutMemoryPressure() {
+        // given
+        EvvReferenceList<Object> list = new EvvReferenceList<>(ReferenceType.SOFT);
+        list.add(new Object());
+
+        // when
+        System.gc();
+
+        // then
+        assertThat(list.size()).isEqualTo(1);
+    }
+
+    private int waitForSize(int expectedSize) {
+        for (int attempt = 0; attempt < 50 && stringExample.size() > expectedSize; attempt++) {
+            System.gc();
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return stringExample.size();
+    }
+}
@@ -0,0 +1,141 @@
+package com.evv;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+
+class EvvStripedAppendBufferTest {
+
+    private EvvArrayList<Integer> backing;
+
+    private EvvStripedAppendBuffer<Integer> buffer;
+
+    private static final int FLUSH_SIZE = 4;
+
+    @BeforeEach
+    void prepareData() {
+        backing = new EvvArrayList<>();
+        buffer = new EvvStripedAppendBuffer<>(backing, 2, FLUSH_SIZE, 0);
+    }
+
+    @Test
+    void add_BelowFlushSize_ShouldNotReachBacking() {
+        // when
+        buffer.add(1);
+        buffer.add(2);
+
+        // then
+        assertThat(buffer.<Integer>readBacking(EvvArrayList::size)).isEqualTo(0);
+        assertThat(buffer.getFlushCount()).isEqualTo(0);
+    }
+
+    @Test
+    void add_ReachFlushSize_ShouldFlushStripe() {
+        // when
+        for (int i = 0; i < FLUSH_SIZE; i++) {
+            buffer.add(i);
+        }
+
+        // then
+        assertThat(buffer.<Integer>readBacking(EvvArrayList::size)).isEqualTo(FLUSH_SIZE);
+        assertThat(backing.get(0)).isEqualTo(0);
+        assertThat(backing.get(FLUSH_SIZE - 1)).isEqualTo(FLUSH_SIZE - 1);
+        assertThat(buffer.getFlushCount()).isEqualTo(1);
+        assertThat(buffer.getFlushedElements()).isEqualTo(FLUSH_SIZE);
+        assertThat(buffer.getMaxFlushNanos()).isLessThanOrEqualTo(buffer.getTotalFlushNanos());
+    }
+
+    @Test
+    void flush_ShouldMoveAllElements() {
+        // given
+        buffer.add(1);
+        buffer.add(2);
+
+        // when
+        buffer.flush();
+
+        // then
+        assertThat(buffer.<Integer>readBacking(EvvArrayList::size)).isEqualTo(2);
+        assertThat(buffer.getFlushedElements()).isEqualTo(2);
+    }
+
+    @Test
+    void add_ManyThreads_ShouldKeepAllElements() throws InterruptedException {
+        // given
+        int threadCount = 4;
+        int perThread = 1000;
+        Thread[] threads = new Thread[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    buffer.add(i);
+                }
+            });
+        }
+
+        // when
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        buffer.close();
+
+        // then
+        assertThat(buffer.<Integer>readBacking(EvvArrayList::size)).isEqualTo(threadCount * perThread);
+        assertThat(buffer.getFlushedElements()).isEqualTo(threadCount * perThread);
+    }
+
+    @Test
+    void close_WithFlushInterval_ShouldFlushRemaining() {
+        // given
+        EvvStripedAppendBuffer<Integer> timedBuffer = new EvvStripedAppendBuffer<>(backing, 2, 1000, 10);
+        timedBuffer.add(1);
+
+        // when
+        timedBuffer.close();
+
+        // then
+        assertThat(timedBuffer.<Integer>readBacking(EvvArrayList::size)).isEqualTo(1);
+    }
+
+    @Test
+    void add_WithFlushInterval_ShouldFlushByTimer() throws InterruptedException {
+        // given
+        EvvStripedAppendBuffer<Integer> timedBuffer = new EvvStripedAppendBuffer<>(backing, 2, 1000, 10);
+
+        // when
+        timedBuffer.add(1);
+        timedBuffer.add(2);
+        int flushedSize = waitForBackingSize(timedBuffer, 2); // до close() полосы сбрасывает только таймер
+        timedBuffer.close(); // дожидается завершения сброса по таймеру, пустые полосы не сбрасываются
+
+        // then
+        assertThat(flushedSize).isEqualTo(2);
+        assertThat(timedBuffer.getFlushCount()).isEqualTo(1);
+        assertThat(timedBuffer.getFlushedElements()).isEqualTo(2);
+    }
+
+    @Test
+    void constructorTest_zeroFlushSize_ShouldThrowIllegalArgumentException() {
+        // when
+        assertThatThrownBy(() -> new EvvStripedAppendBuffer<>(backing, 2, 0, 0))
+        // then
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Передан неверный порог сброса: 0");
+    }
+
+    private static int waitForBackingSize(EvvStripedAppendBuffer<Integer> buffer, int expectedSize)
+            throws InterruptedException {
+        int size = buffer.<Integer>readBacking(EvvArrayList::size);
+        for (int i = 0; i < 500 && size < expectedSize; i++) {
+            Thread.sleep(10);
+            size = buffer.<Integer>readBacking(EvvArrayList::size);
+        }
+        return size;
+    }
+}